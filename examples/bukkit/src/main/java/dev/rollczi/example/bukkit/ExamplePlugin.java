@@ -44,7 +44,7 @@ public class ExamplePlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
-        this.liteCommands.getPlatform().unregisterAll();
+        this.liteCommands.unregister();
     }
 
 }
@@ -0,0 +1,23 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.0"
+}
+
+dependencies {
+    jmh(project(":litecommands-core"))
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+}
+
+tasks.withType<PublishToMavenRepository> {
+    enabled = false
+}
+
+tasks.withType<PublishToMavenLocal> {
+    enabled = false
+}
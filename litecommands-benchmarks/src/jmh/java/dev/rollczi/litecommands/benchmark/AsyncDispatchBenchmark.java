@@ -0,0 +1,57 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch of an {@code @Async} command. The {@code direct} scheduler runs the execution on the calling thread,
+ * so the difference between both schedulers is the cost of the thread hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AsyncDispatchBenchmark {
+
+    @Param({ "direct", "default" })
+    private String scheduler;
+
+    private AsyncExecutionScheduler asyncScheduler;
+    private BenchmarkPlatform platform;
+
+    @Setup
+    public void setUp() {
+        this.asyncScheduler = this.scheduler.equals("direct")
+            ? AsyncExecutionScheduler.of(Runnable::run)
+            : AsyncExecutionScheduler.createDefault();
+
+        this.platform = BenchmarkPlatform.create(builder -> builder
+            .command(BenchmarkCommands.AsyncCommand.class)
+            .asyncScheduler(this.asyncScheduler)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.asyncScheduler.shutdown();
+    }
+
+    @Benchmark
+    public Object executeAndJoin() {
+        ExecuteResult result = this.platform.execute("async", "10");
+
+        return ((CompletableFuture<?>) result.getResult()).join();
+    }
+
+}
@@ -0,0 +1,114 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.argument.block.Block;
+import dev.rollczi.litecommands.argument.joiner.Joiner;
+import dev.rollczi.litecommands.argument.option.Opt;
+import dev.rollczi.litecommands.command.async.Async;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import panda.std.Option;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Command trees shared by the benchmarks.
+ */
+final class BenchmarkCommands {
+
+    static final Class<?>[] ALL = {
+        Shallow.class,
+        Deep.class,
+        Aliases.class,
+        Arguments.class,
+        Scripts.class,
+        Injection.class,
+        AsyncCommand.class,
+        Permissions.class
+    };
+
+    private BenchmarkCommands() {
+    }
+
+    @Route(name = "shallow")
+    static class Shallow {
+        @Execute String execute() { return "shallow"; }
+        @Execute(route = "help") String help() { return "help"; }
+        @Execute(route = "reload") String reload() { return "reload"; }
+        @Execute(route = "version") String version() { return "version"; }
+    }
+
+    @Route(name = "deep")
+    static class Deep {
+        @Route(name = "a")
+        static class LevelA {
+            @Route(name = "b")
+            static class LevelB {
+                @Route(name = "c")
+                static class LevelC {
+                    @Route(name = "d")
+                    static class LevelD {
+                        @Execute(route = "e") String execute(@Arg int amount) { return "deep"; }
+                        @Execute(route = "f") String other() { return "other"; }
+                    }
+                }
+            }
+        }
+    }
+
+    @Route(name = "eco", aliases = { "economy", "money", "balance", "bal" })
+    static class Aliases {
+        @Execute(route = "give", aliases = { "add", "deposit", "grant", "plus" }) String give(@Arg String player, @Arg double amount) { return "give"; }
+        @Execute(route = "take", aliases = { "remove", "withdraw", "revoke", "minus" }) String take(@Arg String player, @Arg double amount) { return "take"; }
+        @Execute(route = "set", aliases = { "put", "assign", "define", "equal" }) String set(@Arg String player, @Arg double amount) { return "set"; }
+        @Execute(route = "reset", aliases = { "clear", "wipe", "zero", "purge" }) String reset(@Arg String player) { return "reset"; }
+        @Execute(route = "top", aliases = { "baltop", "ranking", "leaderboard", "best" }) String top() { return "top"; }
+    }
+
+    @Route(name = "args")
+    static class Arguments {
+        @Execute(route = "optional") String optional(@Arg String first, @Opt Option<Integer> second, @Opt Option<String> third) { return "optional"; }
+        @Execute(route = "date") String date(@Arg LocalDateTime date) { return "date"; }
+        @Execute(route = "mute") String mute(@Arg String player, @Arg Duration duration, @Joiner String reason) { return "mute"; }
+    }
+
+    @Route(name = "script")
+    static class Scripts {
+        @Execute String execute(@Arg Character.UnicodeScript script) { return script.name(); }
+    }
+
+    @Route(name = "inject")
+    static class Injection {
+        @Execute String execute(BenchmarkSender sender, @Arg String player, @Arg int amount) { return "inject"; }
+        @Execute(route = "result") Receipt result(@Arg int amount) { return new Receipt(amount); }
+    }
+
+    @Route(name = "async")
+    static class AsyncCommand {
+        @Async @Execute String execute(@Arg int amount) { return "async"; }
+    }
+
+    @Route(name = "lp user")
+    static class Permissions {
+        @Execute String set(@Arg String user, @Block("parent set") @Arg String rank) { return "set"; }
+        @Execute String unset(@Arg String user, @Block("parent unset") @Arg String rank) { return "unset"; }
+        @Execute String add(@Arg String user, @Block("parent add") @Arg String rank) { return "add"; }
+        @Execute String meta(@Arg String user, @Block("meta set") @Arg String key, @Arg String value, @Arg int priority, @Arg String server, @Arg String world) { return "meta"; }
+    }
+
+    static class Receipt {
+
+        private final int amount;
+
+        Receipt(int amount) {
+            this.amount = amount;
+        }
+
+        int amount() {
+            return this.amount;
+        }
+
+    }
+
+}
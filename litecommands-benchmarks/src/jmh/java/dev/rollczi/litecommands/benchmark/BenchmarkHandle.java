@@ -0,0 +1,4 @@
+package dev.rollczi.litecommands.benchmark;
+
+public class BenchmarkHandle {
+}
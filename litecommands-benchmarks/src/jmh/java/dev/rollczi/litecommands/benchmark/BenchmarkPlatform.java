@@ -0,0 +1,110 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.LiteCommandsBuilder;
+import dev.rollczi.litecommands.command.FindResult;
+import dev.rollczi.litecommands.command.Invocation;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.implementation.LiteFactory;
+import dev.rollczi.litecommands.platform.ExecuteListener;
+import dev.rollczi.litecommands.platform.LiteSender;
+import dev.rollczi.litecommands.platform.RegistryPlatform;
+import dev.rollczi.litecommands.platform.SuggestionListener;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * In-memory platform, commands are dispatched by their exact name without any server in between.
+ */
+public class BenchmarkPlatform implements RegistryPlatform<BenchmarkHandle> {
+
+    private final Map<String, Command> commands = new HashMap<>();
+
+    private final BenchmarkHandle handle = new BenchmarkHandle();
+    private final LiteSender sender = new BenchmarkSender(this.handle);
+
+    @Override
+    public void registerListener(CommandSection<BenchmarkHandle> section, ExecuteListener<BenchmarkHandle> executeListener, SuggestionListener<BenchmarkHandle> suggestionListener) {
+        Command command = new Command(section, executeListener, suggestionListener);
+
+        this.commands.put(section.getName(), command);
+
+        for (String alias : section.getAliases()) {
+            this.commands.put(alias, command);
+        }
+    }
+
+    @Override
+    public void unregisterListener(CommandSection<BenchmarkHandle> section) {
+        this.commands.values().removeIf(command -> command.section == section);
+    }
+
+    @Override
+    public void unregisterAll() {
+        this.commands.clear();
+    }
+
+    public ExecuteResult execute(String label, String... args) {
+        return this.command(label).executeListener.execute(this.handle, new LiteInvocation(this.sender, label, label, args));
+    }
+
+    public SuggestionStack suggest(String label, String... args) {
+        return this.command(label).suggestionListener.suggest(this.handle, new LiteInvocation(this.sender, label, label, args));
+    }
+
+    public FindResult<BenchmarkHandle> find(String label, String... args) {
+        Invocation<BenchmarkHandle> invocation = new Invocation<>(this.handle, this.sender, label, label, args);
+
+        return this.command(label).section.find(invocation.toLite(), 0, FindResult.none(invocation));
+    }
+
+    public SuggestionStack findSuggestion(String label, String... args) {
+        Invocation<BenchmarkHandle> invocation = new Invocation<>(this.handle, this.sender, label, label, args);
+
+        return this.command(label).section.findSuggestion(invocation, 0).merge();
+    }
+
+    private Command command(String label) {
+        Command command = this.commands.get(label);
+
+        if (command == null) {
+            throw new NoSuchElementException("Command " + label + " is not registered");
+        }
+
+        return command;
+    }
+
+    public static BenchmarkPlatform create(Consumer<LiteCommandsBuilder<BenchmarkHandle>> configurator) {
+        BenchmarkPlatform platform = new BenchmarkPlatform();
+        LiteCommandsBuilder<BenchmarkHandle> builder = LiteFactory.builder(BenchmarkHandle.class);
+
+        configurator.accept(builder);
+
+        builder
+            .resultHandler(Object.class, (handle, invocation, value) -> {})
+            .platform(platform)
+            .register();
+
+        return platform;
+    }
+
+    private static final class Command {
+
+        private final CommandSection<BenchmarkHandle> section;
+        private final ExecuteListener<BenchmarkHandle> executeListener;
+        private final SuggestionListener<BenchmarkHandle> suggestionListener;
+
+        private Command(CommandSection<BenchmarkHandle> section, ExecuteListener<BenchmarkHandle> executeListener, SuggestionListener<BenchmarkHandle> suggestionListener) {
+            this.section = section;
+            this.executeListener = executeListener;
+            this.suggestionListener = suggestionListener;
+        }
+
+    }
+
+}
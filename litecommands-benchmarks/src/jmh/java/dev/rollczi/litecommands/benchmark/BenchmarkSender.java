@@ -0,0 +1,27 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.platform.LiteSender;
+
+public class BenchmarkSender implements LiteSender {
+
+    private final BenchmarkHandle handle;
+
+    public BenchmarkSender(BenchmarkHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        return true;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+    }
+
+    @Override
+    public Object getHandle() {
+        return this.handle;
+    }
+
+}
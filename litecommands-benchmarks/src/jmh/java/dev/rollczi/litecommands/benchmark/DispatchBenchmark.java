@@ -0,0 +1,72 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.command.FindResult;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import panda.std.Result;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full dispatch (find, argument parsing, injection and result handling) and {@code find} alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    @Param({
+        "shallow help",
+        "deep a b c d e 10",
+        "bal withdraw Rollczi 10.5",
+        "args optional first 2",
+        "args date 2023-01-01 12:00:00",
+        "args mute Rollczi 1d2h spamming in chat",
+        "script LATIN",
+        "inject Rollczi 10",
+        "inject result 10"
+    })
+    private String input;
+
+    private BenchmarkPlatform platform;
+    private String label;
+    private String[] arguments;
+
+    @Setup
+    public void setUp() {
+        this.platform = BenchmarkPlatform.create(builder -> builder
+            .command(BenchmarkCommands.ALL)
+            .contextualBind(BenchmarkSender.class, (handle, invocation) -> Result.ok(new BenchmarkSender(handle)))
+        );
+
+        String[] split = this.input.split(" ");
+
+        this.label = split[0];
+        this.arguments = Arrays.copyOfRange(split, 1, split.length);
+
+        ExecuteResult result = this.platform.execute(this.label, this.arguments);
+
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Command '" + this.input + "' is not executed successfully");
+        }
+    }
+
+    @Benchmark
+    public ExecuteResult execute() {
+        return this.platform.execute(this.label, this.arguments);
+    }
+
+    @Benchmark
+    public FindResult<BenchmarkHandle> find() {
+        return this.platform.find(this.label, this.arguments);
+    }
+
+}
@@ -0,0 +1,49 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.shared.EstimatedTemporalAmountParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EstimatedTemporalAmountParserBenchmark {
+
+    @Param({ "30s", "1d2h", "1y2mo3w4d5h6m7s" })
+    private String input;
+
+    private Duration duration;
+    private Period period;
+
+    @Setup
+    public void setUp() {
+        this.duration = EstimatedTemporalAmountParser.DATE_TIME_UNITS.parse(this.input);
+        this.period = Period.ofYears(1).plusMonths(2).plusDays(25);
+    }
+
+    @Benchmark
+    public Duration parseDuration() {
+        return EstimatedTemporalAmountParser.DATE_TIME_UNITS.parse(this.input);
+    }
+
+    @Benchmark
+    public String formatDuration() {
+        return EstimatedTemporalAmountParser.DATE_TIME_UNITS.format(this.duration);
+    }
+
+    @Benchmark
+    public String formatPeriod() {
+        return EstimatedTemporalAmountParser.DATE_UNITS.format(this.period);
+    }
+
+}
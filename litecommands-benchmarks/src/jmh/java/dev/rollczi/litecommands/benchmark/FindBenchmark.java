@@ -0,0 +1,52 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.command.FindResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code find} over a section where every executor is tried, compare {@code gc.alloc.rate.norm} of the gc profiler.
+ * The last input matches no executor, so the result is chosen by {@link FindResult#isLongerThan(FindResult)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FindBenchmark {
+
+    @Param({
+        "lp user Rollczi parent set vip",
+        "lp user Rollczi parent add vip",
+        "lp user Rollczi meta set prefix [VIP] 10 survival world",
+        "lp user Rollczi parent clear vip"
+    })
+    private String input;
+
+    private BenchmarkPlatform platform;
+    private String label;
+    private String[] arguments;
+
+    @Setup
+    public void setUp() {
+        this.platform = BenchmarkPlatform.create(builder -> builder.command(BenchmarkCommands.Permissions.class));
+
+        String[] split = this.input.split(" ");
+
+        this.label = split[0];
+        this.arguments = Arrays.copyOfRange(split, 1, split.length);
+    }
+
+    @Benchmark
+    public FindResult<BenchmarkHandle> find() {
+        return this.platform.find(this.label, this.arguments);
+    }
+
+}
@@ -0,0 +1,86 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.command.Invocation;
+import dev.rollczi.litecommands.implementation.injector.InjectorProvider;
+import dev.rollczi.litecommands.injector.Injector;
+import dev.rollczi.litecommands.injector.InjectorSettings;
+import dev.rollczi.litecommands.injector.InvokeContext;
+import dev.rollczi.litecommands.injector.MethodInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import panda.std.Result;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The injector alone, without finding the command or parsing its arguments.
+ * {@code invokeMethod} looks up the cached plan, resolves the parameters and calls the method reflectively,
+ * {@code invoker} does the same through a prepared method handle and {@code compilePlan} pays for a fresh plan on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InjectorBenchmark {
+
+    private InjectorSettings<BenchmarkHandle> settings;
+    private Injector<BenchmarkHandle> injector;
+    private MethodInvoker<BenchmarkHandle> invoker;
+    private Method method;
+    private Target target;
+    private InvokeContext<BenchmarkHandle> context;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        BenchmarkHandle handle = new BenchmarkHandle();
+        BenchmarkSender sender = new BenchmarkSender(handle);
+
+        this.settings = InjectorProvider.<BenchmarkHandle>settings()
+            .typeBind(Service.class, Service::new)
+            .contextualBind(BenchmarkSender.class, (benchmarkHandle, invocation) -> Result.ok(sender));
+
+        this.injector = this.settings.create();
+        this.method = Target.class.getDeclaredMethod("execute", BenchmarkSender.class, Service.class, String.class, int.class);
+        this.target = new Target();
+        this.invoker = this.injector.createInvoker(this.method, this.target);
+        this.context = new InvokeContext<>(new Invocation<>(handle, sender, "inject", "inject", new String[] { "Rollczi", "10" }), Arrays.asList("Rollczi", 10));
+
+        if (!"Rollczi".equals(this.invoker.invoke(this.context))) {
+            throw new IllegalStateException("Method is not invoked successfully");
+        }
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return this.injector.invokeMethod(this.method, this.target, this.context);
+    }
+
+    @Benchmark
+    public Object invoker() {
+        return this.invoker.invoke(this.context);
+    }
+
+    @Benchmark
+    public Object compilePlan() {
+        return this.settings.create().invokeMethod(this.method, this.target, this.context);
+    }
+
+    static class Service {
+    }
+
+    static class Target {
+
+        String execute(BenchmarkSender sender, Service service, @Arg String player, @Arg int amount) {
+            return player;
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.handle.ExecuteResultHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of the handler for a command result: a handler registered for the exact type,
+ * one found through a supertype and one reached after a redirect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultHandlerBenchmark {
+
+    private ExecuteResultHandler<BenchmarkHandle> resultHandler;
+    private BenchmarkHandle handle;
+    private LiteInvocation invocation;
+    private Object handled;
+
+    private final String exact = "exact";
+    private final Integer supertype = 10;
+    private final BenchmarkCommands.Receipt redirected = new BenchmarkCommands.Receipt(10);
+
+    @Setup
+    public void setUp() {
+        this.handle = new BenchmarkHandle();
+        this.invocation = new LiteInvocation(new BenchmarkSender(this.handle), "result", "result");
+        this.resultHandler = new ExecuteResultHandler<>();
+
+        this.resultHandler.registerHandler(String.class, (handle, invocation, value) -> this.handled = value);
+        this.resultHandler.registerHandler(Number.class, (handle, invocation, value) -> this.handled = value);
+        this.resultHandler.registerRedirector(BenchmarkCommands.Receipt.class, String.class, receipt -> "Receipt " + receipt.amount());
+    }
+
+    @Benchmark
+    public Object exact() {
+        this.resultHandler.handleResult(this.handle, this.invocation, this.exact);
+        return this.handled;
+    }
+
+    @Benchmark
+    public Object supertype() {
+        this.resultHandler.handleResult(this.handle, this.invocation, this.supertype);
+        return this.handled;
+    }
+
+    @Benchmark
+    public Object redirect() {
+        this.resultHandler.handleResult(this.handle, this.invocation, this.redirected);
+        return this.handled;
+    }
+
+}
@@ -0,0 +1,68 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tab completion through the platform listener and {@code findSuggestion} alone.
+ * The last token of every input is the text being completed, {@code _} stands for an empty token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionBenchmark {
+
+    @Param({
+        "shallow _",
+        "shallow re",
+        "deep a b c d _",
+        "eco _",
+        "money w",
+        "args optional first _",
+        "args date _",
+        "script _",
+        "script LA"
+    })
+    private String input;
+
+    private BenchmarkPlatform platform;
+    private String label;
+    private String[] arguments;
+
+    @Setup
+    public void setUp() {
+        this.platform = BenchmarkPlatform.create(builder -> builder.command(BenchmarkCommands.ALL));
+
+        String[] split = this.input.split(" ");
+
+        this.label = split[0];
+        this.arguments = Arrays.copyOfRange(split, 1, split.length);
+
+        for (int index = 0; index < this.arguments.length; index++) {
+            if (this.arguments[index].equals("_")) {
+                this.arguments[index] = "";
+            }
+        }
+    }
+
+    @Benchmark
+    public SuggestionStack suggest() {
+        return this.platform.suggest(this.label, this.arguments);
+    }
+
+    @Benchmark
+    public SuggestionStack findSuggestion() {
+        return this.platform.findSuggestion(this.label, this.arguments);
+    }
+
+}
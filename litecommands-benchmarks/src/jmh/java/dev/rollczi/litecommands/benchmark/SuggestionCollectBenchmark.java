@@ -0,0 +1,73 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionMerger;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One suggestion appended at a time, as done for every constant of a large enum like {@code Material}.
+ * {@code copyPerAppend} reproduces the previous merger, which copied the whole stack on each append.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SuggestionCollectBenchmark {
+
+    @Param({ "100", "1500" })
+    private int size;
+
+    private List<Suggestion> suggestions;
+    private LiteInvocation invocation;
+
+    @Setup
+    public void setUp() {
+        this.suggestions = new ArrayList<>(this.size);
+
+        for (int index = 0; index < this.size; index++) {
+            this.suggestions.add(Suggestion.of("material_" + index));
+        }
+
+        this.invocation = new LiteInvocation(new BenchmarkSender(new BenchmarkHandle()), "material", "material", "");
+    }
+
+    @Benchmark
+    public SuggestionStack merger() {
+        SuggestionMerger merger = SuggestionMerger.empty(this.invocation);
+
+        for (Suggestion suggestion : this.suggestions) {
+            merger.append(1, suggestion);
+        }
+
+        return merger.merge();
+    }
+
+    @Benchmark
+    public SuggestionStack copyPerAppend() {
+        LinkedHashSet<Suggestion> stack = new LinkedHashSet<>();
+
+        for (Suggestion suggestion : this.suggestions) {
+            List<Suggestion> copy = new ArrayList<>(stack);
+            copy.addAll(Collections.singletonList(suggestion));
+
+            stack = new LinkedHashSet<>(copy);
+        }
+
+        return SuggestionStack.of(stack);
+    }
+
+}
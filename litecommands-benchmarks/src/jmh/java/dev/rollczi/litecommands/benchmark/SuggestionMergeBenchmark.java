@@ -0,0 +1,72 @@
+package dev.rollczi.litecommands.benchmark;
+
+import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionCollector;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulation of suggestion batches, as done while merging suggestions of every child section and executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionMergeBenchmark {
+
+    @Param({ "4", "32" })
+    private int batches;
+
+    @Param({ "8", "64" })
+    private int batchSize;
+
+    private List<List<Suggestion>> suggestions;
+
+    @Setup
+    public void setUp() {
+        this.suggestions = new ArrayList<>(this.batches);
+
+        for (int batch = 0; batch < this.batches; batch++) {
+            List<Suggestion> suggestions = new ArrayList<>(this.batchSize);
+
+            for (int index = 0; index < this.batchSize; index++) {
+                suggestions.add(Suggestion.of("suggestion-" + batch + "-" + index));
+            }
+
+            this.suggestions.add(suggestions);
+        }
+    }
+
+    @Benchmark
+    public SuggestionStack collector() {
+        SuggestionCollector collector = SuggestionCollector.create();
+
+        for (List<Suggestion> batch : this.suggestions) {
+            collector.addAll(batch);
+        }
+
+        return collector.build();
+    }
+
+    @Benchmark
+    public SuggestionStack stackWith() {
+        SuggestionStack stack = SuggestionStack.empty();
+
+        for (List<Suggestion> batch : this.suggestions) {
+            stack = stack.with(batch);
+        }
+
+        return stack;
+    }
+
+}
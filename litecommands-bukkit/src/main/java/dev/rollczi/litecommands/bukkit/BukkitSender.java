@@ -2,6 +2,7 @@ package dev.rollczi.litecommands.bukkit;
 
 import dev.rollczi.litecommands.platform.LiteSender;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
 
 class BukkitSender implements LiteSender {
 
@@ -25,4 +26,13 @@ class BukkitSender implements LiteSender {
     public Object getHandle() {
         return this.handle;
     }
+
+    @Override
+    public Object getIdentifier() {
+        if (this.handle instanceof Entity) {
+            return ((Entity) this.handle).getUniqueId();
+        }
+
+        return this.handle.getName();
+    }
 }
@@ -24,7 +24,11 @@ public final class LiteBukkitFactory {
             .resultHandler(String.class, new StringHandler())
 
             .platform(registryPlatform)
-            .afterRegister((builder, platform, injector, executeResultHandler, commandService) -> registryPlatform.setExecuteResultHandler(executeResultHandler));
+            .afterRegister((builder, platform, injector, executeResultHandler, commandService) -> {
+                registryPlatform.setExecuteResultHandler(executeResultHandler);
+                registryPlatform.setPermissionCache(commandService.getPermissionCache());
+                registryPlatform.setSectionViewCache(commandService.getSectionViewCache());
+            });
     }
 
 }
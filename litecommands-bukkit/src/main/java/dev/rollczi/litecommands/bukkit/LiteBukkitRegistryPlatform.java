@@ -1,7 +1,9 @@
 package dev.rollczi.litecommands.bukkit;
 
 import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
 import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.command.section.SectionViewCache;
 import dev.rollczi.litecommands.handle.ExecuteResultHandler;
 import dev.rollczi.litecommands.platform.ExecuteListener;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
@@ -24,6 +26,8 @@ class LiteBukkitRegistryPlatform implements RegistryPlatform<CommandSender> {
     private final Map<String, org.bukkit.command.Command> knownCommands;
     private final String fallbackPrefix;
     private ExecuteResultHandler<CommandSender> executeResultHandler = new ExecuteResultHandler<>();
+    private PermissionCache permissionCache = PermissionCache.perInvocation();
+    private SectionViewCache<CommandSender> sectionViewCache = SectionViewCache.disabled();
     private final boolean nativePermissions;
 
     @SuppressWarnings("unchecked")
@@ -72,7 +76,11 @@ class LiteBukkitRegistryPlatform implements RegistryPlatform<CommandSender> {
             }
         };
 
-        return new SimpleBlockedCommand(command, executeListener, suggestionListener, noPermissionHandler);
+        return new SimpleBlockedCommand(
+            command, executeListener, suggestionListener, noPermissionHandler,
+            sender -> this.permissionCache.wrap(new BukkitSender(sender)),
+            sender -> this.sectionViewCache.isVisible(command, this.permissionCache.wrap(new BukkitSender(sender)))
+        );
     }
 
     @Override
@@ -99,4 +107,12 @@ class LiteBukkitRegistryPlatform implements RegistryPlatform<CommandSender> {
         this.executeResultHandler = executeResultHandler;
     }
 
+    void setPermissionCache(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+    }
+
+    void setSectionViewCache(SectionViewCache<CommandSender> sectionViewCache) {
+        this.sectionViewCache = sectionViewCache;
+    }
+
 }
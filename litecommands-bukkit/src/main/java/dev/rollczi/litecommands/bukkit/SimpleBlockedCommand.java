@@ -4,12 +4,15 @@ import dev.rollczi.litecommands.command.permission.RequiredPermissions;
 import dev.rollczi.litecommands.command.section.CommandSection;
 import dev.rollczi.litecommands.meta.CommandMeta;
 import dev.rollczi.litecommands.platform.ExecuteListener;
+import dev.rollczi.litecommands.platform.LiteSender;
 import dev.rollczi.litecommands.platform.SuggestionListener;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 class SimpleBlockedCommand extends SimpleCommand {
 
@@ -18,11 +21,15 @@ class SimpleBlockedCommand extends SimpleCommand {
 
     private final CommandSection<CommandSender> commandSection;
     private final BukkitNoPermission noPermissionHandler;
+    private final Function<CommandSender, LiteSender> senderFactory;
+    private final Predicate<CommandSender> visibility;
 
-    SimpleBlockedCommand(CommandSection<CommandSender> commandSection, ExecuteListener<CommandSender> executeListener, SuggestionListener<CommandSender> suggestionListener, BukkitNoPermission noPermissionHandler) {
+    SimpleBlockedCommand(CommandSection<CommandSender> commandSection, ExecuteListener<CommandSender> executeListener, SuggestionListener<CommandSender> suggestionListener, BukkitNoPermission noPermissionHandler, Function<CommandSender, LiteSender> senderFactory, Predicate<CommandSender> visibility) {
         super(commandSection, executeListener, suggestionListener);
         this.commandSection = commandSection;
         this.noPermissionHandler = noPermissionHandler;
+        this.senderFactory = senderFactory;
+        this.visibility = visibility;
         this.initializePermissions();
     }
 
@@ -37,14 +44,12 @@ class SimpleBlockedCommand extends SimpleCommand {
 
     @Override
     public boolean testPermissionSilent(@NotNull CommandSender target) {
-        RequiredPermissions requiredPermissions = RequiredPermissions.of(this.commandSection.meta(), new BukkitSender(target));
-
-        return requiredPermissions.isEmpty();
+        return this.visibility.test(target);
     }
 
     @Override
     public boolean testPermission(@NotNull CommandSender target) {
-        RequiredPermissions requiredPermissions = RequiredPermissions.of(this.commandSection.meta(), new BukkitSender(target));
+        RequiredPermissions requiredPermissions = RequiredPermissions.of(this.commandSection.meta(), this.senderFactory.apply(target));
 
         if (requiredPermissions.isEmpty()) {
             return true;
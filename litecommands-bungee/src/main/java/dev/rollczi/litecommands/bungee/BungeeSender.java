@@ -3,6 +3,7 @@ package dev.rollczi.litecommands.bungee;
 import dev.rollczi.litecommands.platform.LiteSender;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
 
 class BungeeSender implements LiteSender {
 
@@ -27,4 +28,13 @@ class BungeeSender implements LiteSender {
         return this.handle;
     }
 
+    @Override
+    public Object getIdentifier() {
+        if (this.handle instanceof ProxiedPlayer) {
+            return ((ProxiedPlayer) this.handle).getUniqueId();
+        }
+
+        return this.handle.getName();
+    }
+
 }
@@ -1,10 +1,15 @@
 package dev.rollczi.litecommands;
 
 import dev.rollczi.litecommands.command.CommandService;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.handle.ExecuteResultHandler;
 import dev.rollczi.litecommands.injector.Injector;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
 
+import java.util.concurrent.ForkJoinPool;
+
 public interface LiteCommands<SENDER> {
 
     CommandService<SENDER> getCommandService();
@@ -16,4 +21,26 @@ public interface LiteCommands<SENDER> {
     Class<SENDER> getSenderType();
 
     ExecuteResultHandler<SENDER> getExecuteResultHandler();
+
+    /**
+     * The defaults of this and the following methods keep implementations written before they were added working.
+     * The default scheduler runs on the common pool and is not shut down.
+     */
+    default AsyncExecutionScheduler getAsyncScheduler() {
+        return AsyncExecutionScheduler.of(ForkJoinPool.commonPool());
+    }
+
+    default CommandMetrics getCommandMetrics() {
+        return this.getCommandService().getMetrics();
+    }
+
+    default ExecutionWatchdog getExecutionWatchdog() {
+        return ExecutionWatchdog.disabled();
+    }
+
+    /**
+     * Unregisters all commands from the platform and shuts down the async scheduler and the execution watchdog, call it when the plugin is disabled.
+     */
+    void unregister();
+
 }
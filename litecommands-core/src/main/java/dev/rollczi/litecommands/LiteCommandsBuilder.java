@@ -3,6 +3,11 @@ package dev.rollczi.litecommands;
 import dev.rollczi.litecommands.argument.Argument;
 import dev.rollczi.litecommands.argument.simple.MultilevelArgument;
 import dev.rollczi.litecommands.argument.simple.OneArgument;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptor;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.contextual.Contextual;
 import dev.rollczi.litecommands.factory.CommandEditor;
 import dev.rollczi.litecommands.factory.CommandStateFactory;
@@ -15,8 +20,11 @@ import dev.rollczi.litecommands.injector.bind.TypeBind;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
 import dev.rollczi.litecommands.schematic.SchematicFormat;
 import dev.rollczi.litecommands.schematic.SchematicGenerator;
+import dev.rollczi.litecommands.suggestion.Suggestion;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -46,6 +54,30 @@ public interface LiteCommandsBuilder<SENDER> {
 
     LiteCommandsBuilder<SENDER> permissionHandler(PermissionHandler<SENDER> handler);
 
+    LiteCommandsBuilder<SENDER> asyncScheduler(AsyncExecutionScheduler scheduler);
+
+    LiteCommandsBuilder<SENDER> permissionCache(PermissionCache permissionCache);
+
+    LiteCommandsBuilder<SENDER> sectionViewCache(Duration expireAfter);
+
+    LiteCommandsBuilder<SENDER> commandMetrics(CommandMetrics metrics);
+
+    LiteCommandsBuilder<SENDER> executionWatchdog(ExecutionWatchdog watchdog);
+
+    LiteCommandsBuilder<SENDER> interceptor(ExecuteInterceptor<SENDER> interceptor);
+
+    LiteCommandsBuilder<SENDER> interceptor(String route, ExecuteInterceptor<SENDER> interceptor);
+
+    LiteCommandsBuilder<SENDER> suggestionTimeout(Duration timeout);
+
+    LiteCommandsBuilder<SENDER> suggestionLimit(int limit);
+
+    /**
+     * Orders suggestions before the {@link #suggestionLimit(int)} is applied.
+     * The top suggestions are picked from the first {@code limit * 8} candidates in tree order.
+     */
+    LiteCommandsBuilder<SENDER> suggestionComparator(Comparator<Suggestion> comparator);
+
     LiteCommandsBuilder<SENDER> command(Class<?>... commandClass);
 
     LiteCommandsBuilder<SENDER> commandInstance(Object... commandInstance);
@@ -3,12 +3,14 @@ package dev.rollczi.litecommands.argument;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
 import panda.std.Option;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface Argument<SENDER, A extends Annotation> extends ParameterHandler {
 
@@ -18,6 +20,14 @@ public interface Argument<SENDER, A extends Annotation> extends ParameterHandler
         return Collections.emptyList();
     }
 
+    default CompletableFuture<List<Suggestion>> suggestionAsync(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return CompletableFuture.completedFuture(this.suggestion(invocation, parameter, annotation));
+    }
+
+    default Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return Option.none();
+    }
+
     default boolean validate(LiteInvocation invocation, Suggestion suggestion) {
         return false;
     }
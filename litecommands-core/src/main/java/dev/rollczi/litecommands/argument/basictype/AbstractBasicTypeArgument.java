@@ -12,19 +12,34 @@ import java.util.function.Supplier;
 
 public abstract class AbstractBasicTypeArgument<T> implements OneArgument<T> {
 
-    private final Function<String, T> parser;
+    private final BasicTypeParser<T> parser;
     private final Supplier<String[]> suggestions;
 
-    protected AbstractBasicTypeArgument(Function<String, T> parser, Supplier<String[]> suggestions) {
+    protected AbstractBasicTypeArgument(BasicTypeParser<T> parser, String[] suggestions) {
         this.parser = parser;
+        this.suggestions = () -> suggestions;
+    }
+
+    protected AbstractBasicTypeArgument(Function<String, T> parser, Supplier<String[]> suggestions) {
+        this.parser = TypeUtils.catching(parser);
         this.suggestions = suggestions;
     }
 
     @Override
     public Result<T, Blank> parse(LiteInvocation invocation, String argument) {
-        return TypeUtils.parse(() -> this.parser.apply(argument));
+        T value = this.parser.parse(argument);
+
+        if (value == null) {
+            return Result.error(Blank.BLANK);
+        }
+
+        return Result.ok(value);
     }
 
+    /**
+     * The typed token is parsed once here and returned as a suggestion when it is valid,
+     * so it matches itself and {@link #validate(LiteInvocation, Suggestion)} is not called for it.
+     */
     @Override
     public List<Suggestion> suggest(LiteInvocation invocation) {
         return TypeUtils.suggestion(this.parser, invocation, this.suggestions.get());
@@ -32,7 +47,7 @@ public abstract class AbstractBasicTypeArgument<T> implements OneArgument<T> {
 
     @Override
     public boolean validate(LiteInvocation invocation, Suggestion suggestion) {
-        return TypeUtils.validate(this.parser, suggestion);
+        return this.parser.parse(suggestion.single()) != null;
     }
 
 }
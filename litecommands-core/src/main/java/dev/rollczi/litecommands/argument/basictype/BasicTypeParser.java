@@ -0,0 +1,14 @@
+package dev.rollczi.litecommands.argument.basictype;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parser of a single argument, returning {@code null} for invalid input instead of throwing an exception.
+ */
+@FunctionalInterface
+public interface BasicTypeParser<T> {
+
+    @Nullable
+    T parse(String argument);
+
+}
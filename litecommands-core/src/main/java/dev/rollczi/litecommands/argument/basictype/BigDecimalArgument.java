@@ -5,7 +5,7 @@ import java.math.BigDecimal;
 public class BigDecimalArgument extends AbstractBasicTypeArgument<BigDecimal> {
 
     public BigDecimalArgument() {
-        super(BigDecimal::new, () -> TypeUtils.DECIMAL_SUGGESTION);
+        super(NumberParsers::parseBigDecimal, TypeUtils.DECIMAL_SUGGESTION);
     }
 
 }
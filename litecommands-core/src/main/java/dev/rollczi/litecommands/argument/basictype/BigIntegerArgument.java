@@ -5,7 +5,7 @@ import java.math.BigInteger;
 public class BigIntegerArgument extends AbstractBasicTypeArgument<BigInteger> {
 
     public BigIntegerArgument() {
-        super(BigInteger::new, () -> TypeUtils.NUMBER_SUGGESTION);
+        super(NumberParsers::parseBigInteger, TypeUtils.NUMBER_SUGGESTION);
     }
 
 }
@@ -3,7 +3,7 @@ package dev.rollczi.litecommands.argument.basictype;
 public class ByteArgument extends AbstractBasicTypeArgument<Byte> {
 
     public ByteArgument() {
-        super(Byte::parseByte, () -> TypeUtils.NUMBER_SHORT_SUGGESTION);
+        super(NumberParsers::parseByte, TypeUtils.NUMBER_SHORT_SUGGESTION);
     }
 
 }
@@ -0,0 +1,306 @@
+package dev.rollczi.litecommands.argument.basictype;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Number parsers accepting the same input as {@link Integer#parseInt(String)}, {@link Double#parseDouble(String)},
+ * {@link BigDecimal#BigDecimal(String)} and friends, but returning {@code null} instead of throwing {@link NumberFormatException}.
+ */
+public final class NumberParsers {
+
+    private static final int RADIX = 10;
+    private static final long INVALID = 1;
+
+    private NumberParsers() {
+    }
+
+    @Nullable
+    public static Byte parseByte(String text) {
+        long negated = parseNegated(text, Byte.MIN_VALUE, Byte.MAX_VALUE);
+
+        return negated != INVALID ? (byte) applySign(text, negated) : null;
+    }
+
+    @Nullable
+    public static Short parseShort(String text) {
+        long negated = parseNegated(text, Short.MIN_VALUE, Short.MAX_VALUE);
+
+        return negated != INVALID ? (short) applySign(text, negated) : null;
+    }
+
+    @Nullable
+    public static Integer parseInt(String text) {
+        long negated = parseNegated(text, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        return negated != INVALID ? (int) applySign(text, negated) : null;
+    }
+
+    @Nullable
+    public static Long parseLong(String text) {
+        long negated = parseNegated(text, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        return negated != INVALID ? applySign(text, negated) : null;
+    }
+
+    @Nullable
+    public static Float parseFloat(String text) {
+        if (!isDecimal(text)) {
+            return null;
+        }
+
+        try {
+            return Float.parseFloat(text);
+        }
+        catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static Double parseDouble(String text) {
+        if (!isDecimal(text)) {
+            return null;
+        }
+
+        try {
+            return Double.parseDouble(text);
+        }
+        catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static BigInteger parseBigInteger(String text) {
+        if (!isBigInteger(text)) {
+            return null;
+        }
+
+        return new BigInteger(text);
+    }
+
+    @Nullable
+    public static BigDecimal parseBigDecimal(String text) {
+        if (!isBigDecimal(text)) {
+            return null;
+        }
+
+        try {
+            return new BigDecimal(text);
+        }
+        catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    /**
+     * Accumulates negatively, the same way as {@link Long#parseLong(String)}, so {@code min} can be parsed without overflow.
+     * Returns the negated magnitude, which is never positive, or {@link #INVALID}, so callers box the value only once.
+     */
+    private static long parseNegated(String text, long min, long max) {
+        int length = text.length();
+
+        if (length == 0) {
+            return INVALID;
+        }
+
+        int index = 0;
+        boolean negative = false;
+        char first = text.charAt(0);
+
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+
+            if (length == 1) {
+                return INVALID;
+            }
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / RADIX;
+        long result = 0;
+
+        for (; index < length; index++) {
+            int digit = Character.digit(text.charAt(index), RADIX);
+
+            if (digit < 0 || result < multiplyLimit) {
+                return INVALID;
+            }
+
+            result *= RADIX;
+
+            if (result < limit + digit) {
+                return INVALID;
+            }
+
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    private static long applySign(String text, long negated) {
+        return text.charAt(0) == '-' ? negated : -negated;
+    }
+
+    private static boolean isBigInteger(String text) {
+        int length = text.length();
+        int index = skipSign(text, 0);
+
+        if (index == length) {
+            return false;
+        }
+
+        for (; index < length; index++) {
+            if (Character.digit(text.charAt(index), RADIX) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isBigDecimal(String text) {
+        int length = text.length();
+        int index = skipSign(text, 0);
+        int digits = 0;
+        boolean dot = false;
+
+        for (; index < length; index++) {
+            char character = text.charAt(index);
+
+            if (Character.isDigit(character)) {
+                digits++;
+                continue;
+            }
+
+            if (character == '.' && !dot) {
+                dot = true;
+                continue;
+            }
+
+            break;
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        if (index == length) {
+            return true;
+        }
+
+        char exponent = text.charAt(index);
+
+        if (exponent != 'e' && exponent != 'E') {
+            return false;
+        }
+
+        return isDigits(text, skipSign(text, index + 1), length, false);
+    }
+
+    /**
+     * Mirrors the grammar of {@link Double#valueOf(String)}. Hexadecimal literals are only pre-checked by their prefix.
+     */
+    private static boolean isDecimal(String text) {
+        int start = 0;
+        int end = text.length();
+
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int index = skipSign(text, start);
+
+        if (index == end) {
+            return false;
+        }
+
+        if (text.startsWith("NaN", index)) {
+            return index + 3 == end;
+        }
+
+        if (text.startsWith("Infinity", index)) {
+            return index + 8 == end;
+        }
+
+        if (index + 1 < end && text.charAt(index) == '0' && (text.charAt(index + 1) == 'x' || text.charAt(index + 1) == 'X')) {
+            return true;
+        }
+
+        char last = text.charAt(end - 1);
+
+        if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+            end--;
+        }
+
+        int digits = 0;
+        boolean dot = false;
+
+        for (; index < end; index++) {
+            char character = text.charAt(index);
+
+            if (character >= '0' && character <= '9') {
+                digits++;
+                continue;
+            }
+
+            if (character == '.' && !dot) {
+                dot = true;
+                continue;
+            }
+
+            break;
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        if (index == end) {
+            return true;
+        }
+
+        char exponent = text.charAt(index);
+
+        if (exponent != 'e' && exponent != 'E') {
+            return false;
+        }
+
+        return isDigits(text, skipSign(text, index + 1), end, true);
+    }
+
+    private static boolean isDigits(String text, int from, int to, boolean asciiOnly) {
+        if (from >= to) {
+            return false;
+        }
+
+        for (int index = from; index < to; index++) {
+            char character = text.charAt(index);
+            boolean digit = asciiOnly ? character >= '0' && character <= '9' : Character.isDigit(character);
+
+            if (!digit) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int skipSign(String text, int index) {
+        if (index < text.length() && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            return index + 1;
+        }
+
+        return index;
+    }
+
+}
@@ -3,7 +3,7 @@ package dev.rollczi.litecommands.argument.basictype;
 public class ShortArgument extends AbstractBasicTypeArgument<Short> {
 
     public ShortArgument() {
-        super(Short::parseShort, () -> TypeUtils.NUMBER_SHORT_SUGGESTION);
+        super(NumberParsers::parseShort, TypeUtils.NUMBER_SHORT_SUGGESTION);
     }
 
 }
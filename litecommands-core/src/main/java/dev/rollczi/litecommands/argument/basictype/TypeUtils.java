@@ -2,14 +2,11 @@ package dev.rollczi.litecommands.argument.basictype;
 
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.suggestion.Suggestion;
-import panda.std.Blank;
-import panda.std.Result;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 final class TypeUtils {
 
@@ -25,30 +22,27 @@ final class TypeUtils {
     private TypeUtils() {
     }
 
-    static <T> Result<T, Blank> parse(Supplier<T> parse) {
-        return Result.supplyThrowing(NumberFormatException.class, parse::get).mapErrToBlank();
+    static <T> BasicTypeParser<T> catching(Function<String, T> parse) {
+        return argument -> {
+            try {
+                return parse.apply(argument);
+            }
+            catch (NumberFormatException ignore) {
+                return null;
+            }
+        };
     }
 
-    static List<Suggestion> suggestion(Function<String, ?> parse, LiteInvocation invocation, String... suggestions) {
+    static List<Suggestion> suggestion(BasicTypeParser<?> parser, LiteInvocation invocation, String... suggestions) {
         List<Suggestion> parsedSuggestions = new ArrayList<>(Suggestion.of(suggestions));
         Optional<Suggestion> optionalSuggestion = invocation.argument(invocation.arguments().length - 1)
             .filter(argument -> !argument.isEmpty())
-            .map(Suggestion::of)
-            .filter(argument -> validate(parse, argument));
+            .filter(argument -> parser.parse(argument) != null)
+            .map(Suggestion::of);
 
         optionalSuggestion.ifPresent(parsedSuggestions::add);
 
         return parsedSuggestions;
     }
 
-    static boolean validate(Function<String, ?> parse, Suggestion suggestion) {
-        try {
-            parse.apply(suggestion.single());
-            return true;
-        }
-        catch (NumberFormatException ignore) {
-            return false;
-        }
-    }
-
 }
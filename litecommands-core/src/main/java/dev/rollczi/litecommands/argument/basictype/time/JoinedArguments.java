@@ -0,0 +1,118 @@
+package dev.rollczi.litecommands.argument.basictype.time;
+
+import java.util.List;
+
+/**
+ * Read-only view of arguments joined by a single space, so multilevel arguments can be parsed without building a new string.
+ */
+final class JoinedArguments implements CharSequence {
+
+    private final String[] arguments;
+    private final int[] offsets;
+    private final int length;
+    private String joined;
+
+    private JoinedArguments(String[] arguments) {
+        this.arguments = arguments;
+        this.offsets = new int[arguments.length];
+
+        int offset = 0;
+
+        for (int index = 0; index < arguments.length; index++) {
+            this.offsets[index] = offset;
+            offset += arguments[index].length() + 1;
+        }
+
+        this.length = Math.max(offset - 1, 0);
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + this.length);
+        }
+
+        int argument = this.argumentAt(index);
+        int position = index - this.offsets[argument];
+
+        if (position == this.arguments[argument].length()) {
+            return ' ';
+        }
+
+        return this.arguments[argument].charAt(position);
+    }
+
+    /**
+     * Slices the backing argument when the range does not cross a separator, otherwise slices the joined string.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + this.length);
+        }
+
+        int argument = this.argumentAt(start);
+        int offset = this.offsets[argument];
+
+        if (end - offset <= this.arguments[argument].length()) {
+            return this.arguments[argument].substring(start - offset, end - offset);
+        }
+
+        return this.toString().substring(start, end);
+    }
+
+    /**
+     * Joined lazily once, e.g. for zone ids, offsets or the message of a parse exception.
+     */
+    @Override
+    public String toString() {
+        String joined = this.joined;
+
+        if (joined == null) {
+            joined = String.join(" ", this.arguments);
+            this.joined = joined;
+        }
+
+        return joined;
+    }
+
+    private int argumentAt(int index) {
+        int low = 0;
+        int high = this.offsets.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (this.offsets[middle] <= index) {
+                low = middle;
+            }
+            else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    static CharSequence of(String... arguments) {
+        if (arguments.length == 1) {
+            return arguments[0];
+        }
+
+        return new JoinedArguments(arguments);
+    }
+
+    static CharSequence of(List<String> arguments) {
+        if (arguments.size() == 1) {
+            return arguments.get(0);
+        }
+
+        return new JoinedArguments(arguments.toArray(new String[0]));
+    }
+
+}
@@ -3,32 +3,57 @@ package dev.rollczi.litecommands.argument.basictype.time;
 import dev.rollczi.litecommands.argument.simple.MultilevelArgument;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
+import panda.std.Option;
 import panda.std.Result;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public abstract class TemporalAccessorArgument<T extends TemporalAccessor> implements MultilevelArgument<T> {
 
     private static final String MULTI_LEVEL_ARGUMENT_SEPARATOR = " ";
+    private static final Duration DEFAULT_SUGGESTIONS_REFRESH = Duration.ofSeconds(1);
 
     private final DateTimeFormatter formatter;
     private final TemporalQuery<T> query;
     private final Supplier<List<T>> suggestedTemporal;
 
     private final int argumentCount;
+    private final long suggestionsRefresh;
+    private final LongSupplier clock;
 
-    protected TemporalAccessorArgument(DateTimeFormatter formatter, TemporalQuery<T> query, Supplier<List<T>> suggestedTemporal) {
+    private volatile FormattedSuggestions formattedSuggestions;
+
+    TemporalAccessorArgument(DateTimeFormatter formatter, TemporalQuery<T> query, Supplier<List<T>> suggestedTemporal, Duration suggestionsRefresh, LongSupplier clock) {
         this.formatter = formatter;
-        this.argumentCount = formatter.toString().split(" ").length;
+        this.argumentCount = formatter.toString().split(MULTI_LEVEL_ARGUMENT_SEPARATOR).length;
         this.query = query;
         this.suggestedTemporal = suggestedTemporal;
+        this.suggestionsRefresh = Math.max(suggestionsRefresh.toMillis(), 1);
+        this.clock = clock;
+    }
+
+    /**
+     * @param suggestionsRefresh how long formatted suggestions are reused, they are usually relative to the current time
+     */
+    protected TemporalAccessorArgument(DateTimeFormatter formatter, TemporalQuery<T> query, Supplier<List<T>> suggestedTemporal, Duration suggestionsRefresh) {
+        this(formatter, query, suggestedTemporal, suggestionsRefresh, System::currentTimeMillis);
+    }
+
+    protected TemporalAccessorArgument(DateTimeFormatter formatter, TemporalQuery<T> query, Supplier<List<T>> suggestedTemporal) {
+        this(formatter, query, suggestedTemporal, DEFAULT_SUGGESTIONS_REFRESH);
     }
 
     protected TemporalAccessorArgument(String formatterPattern, TemporalQuery<T> query, Supplier<List<T>> suggestedTemporal) {
@@ -41,7 +66,7 @@ public abstract class TemporalAccessorArgument<T extends TemporalAccessor> imple
 
     @Override
     public Result<T, ?> parseMultilevel(LiteInvocation invocation, String... arguments) {
-        return this.parseTemporal(String.join(MULTI_LEVEL_ARGUMENT_SEPARATOR, arguments))
+        return this.parseTemporal(JoinedArguments.of(arguments))
             .mapErr(dateTimeParseException -> "Invalid temporal format: " + dateTimeParseException.getMessage());
     }
 
@@ -52,20 +77,68 @@ public abstract class TemporalAccessorArgument<T extends TemporalAccessor> imple
 
     @Override
     public List<Suggestion> suggest(LiteInvocation invocation) {
-        return this.suggestedTemporal.get().stream()
-            .map(formatter::format)
-            .map(suggestion -> suggestion.split(MULTI_LEVEL_ARGUMENT_SEPARATOR))
-            .map(Suggestion::multilevel)
-            .collect(Collectors.toList());
+        return this.formattedSuggestions().suggestions;
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation) {
+        return Option.of(this.formattedSuggestions().index);
     }
 
     @Override
     public boolean validate(LiteInvocation invocation, Suggestion suggestion) {
-        return this.parseTemporal(suggestion.multilevel()).isOk();
+        FormattedSuggestions formattedSuggestions = this.formattedSuggestions;
+
+        if (formattedSuggestions != null && formattedSuggestions.contains(suggestion)) {
+            return true;
+        }
+
+        return this.parseTemporal(JoinedArguments.of(suggestion.multilevelList())).isOk();
     }
 
-    private Result<T, DateTimeParseException> parseTemporal(String arguments) {
+    private FormattedSuggestions formattedSuggestions() {
+        long bucket = this.clock.getAsLong() / this.suggestionsRefresh;
+        FormattedSuggestions formattedSuggestions = this.formattedSuggestions;
+
+        if (formattedSuggestions != null && formattedSuggestions.bucket == bucket) {
+            return formattedSuggestions;
+        }
+
+        List<T> temporals = this.suggestedTemporal.get();
+        List<Suggestion> suggestions = new ArrayList<>(temporals.size());
+
+        for (T temporal : temporals) {
+            suggestions.add(Suggestion.multilevel(this.formatter.format(temporal).split(MULTI_LEVEL_ARGUMENT_SEPARATOR)));
+        }
+
+        formattedSuggestions = new FormattedSuggestions(bucket, suggestions);
+        this.formattedSuggestions = formattedSuggestions;
+
+        return formattedSuggestions;
+    }
+
+    private Result<T, DateTimeParseException> parseTemporal(CharSequence arguments) {
         return Result.supplyThrowing(DateTimeParseException.class, () -> formatter.parse(arguments, query));
     }
 
+    private static final class FormattedSuggestions {
+
+        private final long bucket;
+        private final List<Suggestion> suggestions;
+        private final Set<Suggestion> lookup;
+        private final SuggestionIndex index;
+
+        private FormattedSuggestions(long bucket, List<Suggestion> suggestions) {
+            this.bucket = bucket;
+            this.suggestions = Collections.unmodifiableList(suggestions);
+            this.lookup = new HashSet<>(suggestions);
+            this.index = SuggestionIndex.of(suggestions);
+        }
+
+        private boolean contains(Suggestion suggestion) {
+            return this.lookup.contains(suggestion);
+        }
+
+    }
+
 }
@@ -3,14 +3,20 @@ package dev.rollczi.litecommands.argument.basictype.time;
 import dev.rollczi.litecommands.argument.simple.OneArgument;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
 import panda.std.Blank;
+import panda.std.Option;
 import panda.std.Result;
 
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.List;
 
 public class ZoneIdArgument implements OneArgument<ZoneId> {
 
+    private static final List<Suggestion> SUGGESTIONS = Collections.unmodifiableList(Suggestion.of(ZoneId.getAvailableZoneIds()));
+    private static final SuggestionIndex ZONE_IDS = SuggestionIndex.of(SUGGESTIONS);
+
     @Override
     public Result<ZoneId, Blank> parse(LiteInvocation invocation, String argument) {
         return Result.supplyThrowing(() -> ZoneId.of(argument))
@@ -19,7 +25,12 @@ public class ZoneIdArgument implements OneArgument<ZoneId> {
 
     @Override
     public List<Suggestion> suggest(LiteInvocation invocation) {
-        return Suggestion.of(ZoneId.getAvailableZoneIds());
+        return SUGGESTIONS;
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation) {
+        return Option.of(ZONE_IDS);
     }
 
 }
\ No newline at end of file
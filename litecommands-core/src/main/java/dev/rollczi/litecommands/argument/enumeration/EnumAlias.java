@@ -0,0 +1,17 @@
+package dev.rollczi.litecommands.argument.enumeration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Additional names, matched ignoring case, under which the annotated enum constant can be typed.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnumAlias {
+
+    String[] value();
+
+}
@@ -6,35 +6,49 @@ import dev.rollczi.litecommands.argument.ParameterHandler;
 import dev.rollczi.litecommands.argument.SingleArgument;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
-import dev.rollczi.litecommands.shared.EnumUtil;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
+import panda.std.Option;
 
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EnumArgument<SENDER> implements SingleArgument<SENDER, Arg>, ParameterHandler {
 
+    private final Map<Class<?>, EnumTable<?>> tables = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Enum<?>>> aliases = new ConcurrentHashMap<>();
+
     @Override
     public MatchResult match(LiteInvocation invocation, ArgumentContext<Arg> context, String argument) {
-        return EnumUtil.parse(context.parameter().getType(), argument)
-                .fold(MatchResult::matchedSingle, exception -> MatchResult.notMatched());
+        EnumTable<?> table = this.table(context.parameter().getType());
+
+        if (table == null) {
+            return MatchResult.notMatched();
+        }
+
+        return table.find(argument)
+                .map(MatchResult::matchedSingle)
+                .orElseGet(MatchResult.notMatched());
     }
 
     @Override
     public List<Suggestion> suggestion(LiteInvocation invocation, Parameter parameter, Arg annotation) {
-        Object[] enumConstants = parameter.getType().getEnumConstants();
+        EnumTable<?> table = this.table(parameter.getType());
 
-        if (enumConstants == null || enumConstants.length == 0) {
+        if (table == null) {
             return Collections.emptyList();
         }
 
-        return Arrays.stream(enumConstants)
-                .map(Object::toString)
-                .map(Suggestion::of)
-                .collect(Collectors.toList());
+        return table.suggestions();
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation, Parameter parameter, Arg annotation) {
+        return Option.of(this.table(parameter.getType()))
+                .map(EnumTable::suggestionIndex);
     }
 
     @Override
@@ -42,4 +56,31 @@ public class EnumArgument<SENDER> implements SingleArgument<SENDER, Arg>, Parame
         return Enum.class.isAssignableFrom(parameter.getType());
     }
 
+    public <E extends Enum<E>> EnumArgument<SENDER> alias(E constant, String... aliases) {
+        Class<E> type = constant.getDeclaringClass();
+        Map<String, Enum<?>> typeAliases = this.aliases.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+
+        for (String alias : aliases) {
+            typeAliases.put(alias, constant);
+        }
+
+        this.tables.remove(type);
+        return this;
+    }
+
+    private EnumTable<?> table(Class<?> type) {
+        if (!type.isEnum()) {
+            return null;
+        }
+
+        return this.tables.computeIfAbsent(type, this::createTable);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EnumTable<?> createTable(Class<?> type) {
+        Map<String, Enum<?>> aliases = this.aliases.getOrDefault(type, Collections.emptyMap());
+
+        return EnumTable.of((Class) type, (Map) aliases);
+    }
+
 }
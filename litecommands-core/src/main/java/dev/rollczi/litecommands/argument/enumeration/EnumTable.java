@@ -0,0 +1,133 @@
+package dev.rollczi.litecommands.argument.enumeration;
+
+import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
+import panda.std.Option;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup table of the constants of one enum type, built once and shared by every parameter of that type.
+ * Constants are found by their exact name, then by name ignoring case and by aliases, without throwing on a miss.
+ */
+public final class EnumTable<E extends Enum<E>> {
+
+    private final Map<String, E> byName;
+    private final Map<String, E> byKey;
+    private final List<Suggestion> suggestions;
+    private final SuggestionIndex suggestionIndex;
+
+    private EnumTable(Map<String, E> byName, Map<String, E> byKey, List<Suggestion> suggestions) {
+        this.byName = byName;
+        this.byKey = byKey;
+        this.suggestions = Collections.unmodifiableList(suggestions);
+        this.suggestionIndex = SuggestionIndex.of(suggestions);
+    }
+
+    public Option<E> find(String text) {
+        E constant = this.byName.get(text);
+
+        if (constant != null) {
+            return Option.of(constant);
+        }
+
+        return Option.of(this.byKey.get(toKey(text)));
+    }
+
+    public List<Suggestion> suggestions() {
+        return this.suggestions;
+    }
+
+    public SuggestionIndex suggestionIndex() {
+        return this.suggestionIndex;
+    }
+
+    public static <E extends Enum<E>> EnumTable<E> of(Class<E> type) {
+        return of(type, Collections.emptyMap());
+    }
+
+    public static <E extends Enum<E>> EnumTable<E> of(Class<E> type, Map<String, E> aliases) {
+        E[] constants = type.getEnumConstants();
+
+        if (constants == null) {
+            throw new IllegalArgumentException(type + " is not an enum");
+        }
+
+        Map<String, E> byName = new HashMap<>();
+        Map<String, E> byKey = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        List<Suggestion> suggestions = new ArrayList<>(constants.length);
+
+        for (E constant : constants) {
+            byName.put(constant.name(), constant);
+            putKey(byKey, ambiguous, constant.name(), constant);
+            suggestions.add(Suggestion.of(constant.toString()));
+        }
+
+        Map<String, E> allAliases = new HashMap<>(annotatedAliases(type, constants));
+        allAliases.putAll(aliases);
+
+        for (Map.Entry<String, E> alias : allAliases.entrySet()) {
+            String key = toKey(alias.getKey());
+
+            if (!byKey.containsKey(key) && !ambiguous.contains(key)) {
+                byKey.put(key, alias.getValue());
+            }
+        }
+
+        return new EnumTable<>(byName, byKey, suggestions);
+    }
+
+    private static <E extends Enum<E>> void putKey(Map<String, E> byKey, Set<String> ambiguous, String name, E constant) {
+        String key = toKey(name);
+
+        if (ambiguous.contains(key)) {
+            return;
+        }
+
+        if (byKey.containsKey(key)) {
+            byKey.remove(key);
+            ambiguous.add(key);
+            return;
+        }
+
+        byKey.put(key, constant);
+    }
+
+    private static <E extends Enum<E>> Map<String, E> annotatedAliases(Class<E> type, E[] constants) {
+        Map<String, E> aliases = new HashMap<>();
+
+        for (E constant : constants) {
+            EnumAlias enumAlias;
+
+            try {
+                enumAlias = type.getField(constant.name()).getAnnotation(EnumAlias.class);
+            }
+            catch (NoSuchFieldException exception) {
+                continue;
+            }
+
+            if (enumAlias == null) {
+                continue;
+            }
+
+            for (String alias : enumAlias.value()) {
+                aliases.put(alias, constant);
+            }
+        }
+
+        return aliases;
+    }
+
+    private static String toKey(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -6,7 +6,9 @@ import dev.rollczi.litecommands.argument.ParameterHandler;
 import dev.rollczi.litecommands.argument.simple.MultilevelArgument;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
+import dev.rollczi.litecommands.shared.OverrideUtil;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
 import panda.std.Blank;
 import panda.std.Option;
 import panda.std.Result;
@@ -15,15 +17,20 @@ import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class OptionArgument<SENDER, T> implements Argument<SENDER, Opt>, ParameterHandler {
 
+    private static final Class<?>[] SUGGEST_PARAMETERS = { LiteInvocation.class };
+
     private final Class<T> type;
     private final MultilevelArgument<T> multilevel;
+    private final boolean indexed;
 
     public OptionArgument(Class<T> type, MultilevelArgument<T> multilevel) {
         this.type = type;
         this.multilevel = multilevel;
+        this.indexed = !OverrideUtil.isOverriddenBelow(multilevel.getClass(), SUGGEST_PARAMETERS, "suggestionIndex", "suggest", "suggestAsync");
     }
 
     @Override
@@ -62,6 +69,20 @@ public class OptionArgument<SENDER, T> implements Argument<SENDER, Opt>, Paramet
         return this.multilevel.suggest(invocation);
     }
 
+    @Override
+    public CompletableFuture<List<Suggestion>> suggestionAsync(LiteInvocation invocation, Parameter parameter, Opt annotation) {
+        return this.multilevel.suggestAsync(invocation);
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation, Parameter parameter, Opt annotation) {
+        if (!this.indexed) {
+            return Option.none();
+        }
+
+        return this.multilevel.suggestionIndex(invocation);
+    }
+
     @Override
     public Class<?> getNativeClass() {
         return this.multilevel.getClass();
@@ -2,10 +2,13 @@ package dev.rollczi.litecommands.argument.simple;
 
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
+import panda.std.Option;
 import panda.std.Result;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MultilevelArgument<T> {
 
@@ -15,6 +18,14 @@ public interface MultilevelArgument<T> {
         return Collections.emptyList();
     }
 
+    default CompletableFuture<List<Suggestion>> suggestAsync(LiteInvocation invocation) {
+        return CompletableFuture.completedFuture(this.suggest(invocation));
+    }
+
+    default Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation) {
+        return Option.none();
+    }
+
     default boolean validate(LiteInvocation invocation, Suggestion suggestion) {
         return false;
     }
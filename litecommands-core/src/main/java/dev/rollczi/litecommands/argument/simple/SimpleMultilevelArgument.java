@@ -5,20 +5,28 @@ import dev.rollczi.litecommands.argument.Argument;
 import dev.rollczi.litecommands.argument.ArgumentContext;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
+import dev.rollczi.litecommands.shared.OverrideUtil;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
 import panda.std.Blank;
+import panda.std.Option;
 import panda.std.Result;
 
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class SimpleMultilevelArgument<SENDER, T> implements Argument<SENDER, Arg> {
 
+    private static final Class<?>[] SUGGEST_PARAMETERS = { LiteInvocation.class };
+
     private final MultilevelArgument<T> multilevel;
+    private final boolean indexed;
 
     public SimpleMultilevelArgument(MultilevelArgument<T> multilevel) {
         this.multilevel = multilevel;
+        this.indexed = !OverrideUtil.isOverriddenBelow(multilevel.getClass(), SUGGEST_PARAMETERS, "suggestionIndex", "suggest", "suggestAsync");
     }
 
     @Override
@@ -51,6 +59,20 @@ public class SimpleMultilevelArgument<SENDER, T> implements Argument<SENDER, Arg
         return this.multilevel.suggest(invocation);
     }
 
+    @Override
+    public CompletableFuture<List<Suggestion>> suggestionAsync(LiteInvocation invocation, Parameter parameter, Arg annotation) {
+        return this.multilevel.suggestAsync(invocation);
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation, Parameter parameter, Arg annotation) {
+        if (!this.indexed) {
+            return Option.none();
+        }
+
+        return this.multilevel.suggestionIndex(invocation);
+    }
+
     @Override
     public boolean isOptional() {
         return false;
@@ -1,24 +1,70 @@
 package dev.rollczi.litecommands.command;
 
+import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
 import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptorChain;
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptorRegistry;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
 import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.command.section.SectionView;
+import dev.rollczi.litecommands.command.section.SectionViewCache;
 import dev.rollczi.litecommands.handle.ExecuteResultHandler;
+import dev.rollczi.litecommands.meta.CommandMeta;
+import dev.rollczi.litecommands.platform.LiteSender;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
+import dev.rollczi.litecommands.platform.SuggestionListener;
+import dev.rollczi.litecommands.shared.FutureUtil;
+import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionMerger;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 public class CommandService<SENDER> {
 
+    public static final Duration DEFAULT_SUGGESTION_TIMEOUT = Duration.ofSeconds(3);
+    public static final int COMPARATOR_SEARCH_FACTOR = 8;
+
     private final RegistryPlatform<SENDER> platform;
     private final Map<String, CommandSection<SENDER>> commands = new HashMap<>();
     private final ExecuteResultHandler<SENDER> handler;
+    private final Duration suggestionTimeout;
+    private final int suggestionLimit;
+    private final @Nullable Comparator<Suggestion> suggestionComparator;
+    private final PermissionCache permissionCache;
+    private final SectionViewCache<SENDER> sectionViewCache;
+    private final CommandMetrics metrics;
+    private final boolean metricsEnabled;
+    private final ExecuteInterceptorRegistry<SENDER> interceptors;
 
     public CommandService(RegistryPlatform<SENDER> platform, ExecuteResultHandler<SENDER> handler) {
+        this(platform, handler, DEFAULT_SUGGESTION_TIMEOUT);
+    }
+
+    public CommandService(RegistryPlatform<SENDER> platform, ExecuteResultHandler<SENDER> handler, Duration suggestionTimeout) {
+        this(platform, handler, CommandServiceSettings.<SENDER>create().suggestionTimeout(suggestionTimeout));
+    }
+
+    public CommandService(RegistryPlatform<SENDER> platform, ExecuteResultHandler<SENDER> handler, CommandServiceSettings<SENDER> settings) {
         this.platform = platform;
         this.handler = handler;
+        this.suggestionTimeout = settings.getSuggestionTimeout();
+        this.suggestionLimit = settings.getSuggestionLimit();
+        this.suggestionComparator = settings.getSuggestionComparator();
+        this.permissionCache = settings.getPermissionCache();
+        this.sectionViewCache = settings.getSectionViewCache();
+        this.metrics = settings.getMetrics();
+        this.metricsEnabled = this.metrics.isEnabled();
+        this.interceptors = settings.getInterceptors();
     }
 
     public CommandSection<SENDER> getSection(String key) {
@@ -30,24 +76,121 @@ public class CommandService<SENDER> {
     }
 
     public void register(CommandSection<SENDER> section) {
+        boolean guarded = this.requiresPermission(section);
+        this.assignRoutes(section, section.getName());
+        this.sectionViewCache.invalidateAll();
         this.commands.put(section.getName(), section);
 
         for (String alias : section.getAliases()) {
             this.commands.put(alias, section);
         }
 
+        ExecuteInterceptorChain<SENDER> chain = this.interceptors.compile(section, this.handler);
+        boolean intercepted = !chain.isEmpty();
+
         this.platform.registerListener(
             section,
             (sender, invocation) -> {
-                ExecuteResult result = section.execute(invocation.withHandle(sender));
+                LiteInvocation cached = guarded ? this.permissionCache.wrap(invocation) : invocation;
 
-                this.handler.handle(sender, invocation, result);
+                if (this.metricsEnabled) {
+                    return this.executeMeasured(section, chain, sender, cached);
+                }
+
+                if (intercepted) {
+                    return this.executeIntercepted(section, chain, sender, cached);
+                }
+
+                ExecuteResult result = section.execute(cached.withHandle(sender));
+
+                this.handler.handle(sender, cached, result);
                 return result;
             },
-            (sender, invocation) -> section.findSuggestion(invocation.withHandle(sender), 0).merge()
+            new SectionSuggestionListener(section, guarded)
         );
     }
 
+    private ExecuteResult executeIntercepted(CommandSection<SENDER> section, ExecuteInterceptorChain<SENDER> chain, SENDER sender, LiteInvocation invocation) {
+        Invocation<SENDER> withHandle = invocation.withHandle(sender);
+        FindResult<SENDER> findResult = section.find(invocation, 0, FindResult.none(withHandle));
+
+        return chain.execute(withHandle, invocation, findResult);
+    }
+
+    /**
+     * With interceptors the result is handled at the end of the chain, so its handling is measured as a part of the invocation.
+     */
+    private ExecuteResult executeMeasured(CommandSection<SENDER> section, ExecuteInterceptorChain<SENDER> chain, SENDER sender, LiteInvocation invocation) {
+        Invocation<SENDER> withHandle = invocation.withHandle(sender);
+        long start = System.nanoTime();
+        FindResult<SENDER> findResult = section.find(invocation, 0, FindResult.none(withHandle));
+        long found = System.nanoTime();
+        ExecuteResult result = null;
+        long executed = found;
+
+        try {
+            if (chain.isEmpty()) {
+                result = section.execute(withHandle, findResult);
+                executed = System.nanoTime();
+
+                this.handler.handle(sender, invocation, result);
+                return result;
+            }
+
+            result = chain.execute(withHandle, invocation, findResult);
+            executed = System.nanoTime();
+            return result;
+        }
+        finally {
+            long handled = System.nanoTime();
+
+            this.metrics.recordExecution(this.routeOf(section, findResult), result, found - start, executed - found, handled - executed);
+        }
+    }
+
+    private String routeOf(CommandSection<SENDER> root, FindResult<SENDER> findResult) {
+        return findResult.getLastSection().orElse(root).meta().get(CommandMeta.ROUTE);
+    }
+
+    /**
+     * Computes the route of every section once, it is shared by metrics, interceptors and the execution watchdog.
+     */
+    private void assignRoutes(CommandSection<SENDER> section, String route) {
+        section.meta().set(CommandMeta.ROUTE, route);
+
+        for (CommandSection<SENDER> child : section.childrenSection()) {
+            this.assignRoutes(child, route + " " + child.getName());
+        }
+    }
+
+    @Nullable
+    private static <SENDER> CommandSection<SENDER> childNamed(CommandSection<SENDER> section, String name) {
+        for (CommandSection<SENDER> child : section.childrenSection()) {
+            if (child.isSimilar(name)) {
+                return child;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return whether any section or executor of the tree requires a permission
+     */
+    private boolean requiresPermission(CommandSection<SENDER> section) {
+        boolean guarded = section.meta().getEffectivePermissions().length != 0;
+
+        for (ArgumentExecutor<SENDER> executor : section.executors()) {
+            guarded |= executor.meta().getEffectivePermissions().length != 0;
+        }
+
+        for (CommandSection<SENDER> child : section.childrenSection()) {
+            guarded |= this.requiresPermission(child);
+        }
+
+        return guarded;
+    }
+
     public RegistryPlatform<SENDER> getPlatform() {
         return this.platform;
     }
@@ -56,4 +199,152 @@ public class CommandService<SENDER> {
         return this.handler;
     }
 
+    public Duration getSuggestionTimeout() {
+        return this.suggestionTimeout;
+    }
+
+    public PermissionCache getPermissionCache() {
+        return this.permissionCache;
+    }
+
+    public CommandMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    public ExecuteInterceptorRegistry<SENDER> getInterceptors() {
+        return this.interceptors;
+    }
+
+    public SectionViewCache<SENDER> getSectionViewCache() {
+        return this.sectionViewCache;
+    }
+
+    public boolean isVisible(CommandSection<SENDER> section, LiteSender sender) {
+        return this.sectionViewCache.isVisible(section, sender);
+    }
+
+    /**
+     * Drops cached permission results and section views of the sender, call it when permissions of the sender change.
+     */
+    public void invalidatePermissions(Object handle) {
+        this.permissionCache.invalidate(handle);
+        this.sectionViewCache.invalidate(handle);
+    }
+
+    public void invalidatePermissions() {
+        this.permissionCache.invalidateAll();
+        this.sectionViewCache.invalidateAll();
+    }
+
+    public int getSuggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    /**
+     * Without a comparator the first {@link #getSuggestionLimit()} suggestions in tree order are kept
+     * and the search stops as soon as they are found. With a comparator the search stops after
+     * {@link #COMPARATOR_SEARCH_FACTOR} times more candidates and the top suggestions are picked from them,
+     * so a better ranked suggestion found later in the tree can be missed in exchange for a bounded walk.
+     */
+    private int searchLimit() {
+        if (this.suggestionComparator == null) {
+            return this.suggestionLimit;
+        }
+
+        if (this.suggestionLimit >= Integer.MAX_VALUE / COMPARATOR_SEARCH_FACTOR) {
+            return Integer.MAX_VALUE;
+        }
+
+        return this.suggestionLimit * COMPARATOR_SEARCH_FACTOR;
+    }
+
+    private SuggestionStack top(SuggestionStack stack) {
+        if (this.suggestionComparator == null) {
+            return stack;
+        }
+
+        return stack.top(this.suggestionLimit, this.suggestionComparator);
+    }
+
+    private class SectionSuggestionListener implements SuggestionListener<SENDER> {
+
+        private final CommandSection<SENDER> section;
+        private final boolean guarded;
+
+        private SectionSuggestionListener(CommandSection<SENDER> section, boolean guarded) {
+            this.section = section;
+            this.guarded = guarded;
+        }
+
+        /**
+         * Route of the deepest section resolved by the completed arguments, the argument being typed is not resolved.
+         */
+        private String routeOf(LiteInvocation invocation) {
+            String[] arguments = invocation.arguments();
+            CommandSection<SENDER> current = this.section;
+
+            for (int index = 0; index < arguments.length - 1; index++) {
+                CommandSection<SENDER> child = childNamed(current, arguments[index]);
+
+                if (child == null) {
+                    break;
+                }
+
+                current = child;
+            }
+
+            return current.meta().get(CommandMeta.ROUTE);
+        }
+
+        private Invocation<SENDER> invocation(SENDER sender, LiteInvocation invocation) {
+            LiteInvocation cached = this.guarded ? CommandService.this.permissionCache.wrap(invocation) : invocation;
+
+            return cached.withHandle(sender);
+        }
+
+        @Override
+        public SuggestionStack suggest(SENDER sender, LiteInvocation invocation) {
+            long start = CommandService.this.metricsEnabled ? System.nanoTime() : 0;
+            Invocation<SENDER> cached = this.invocation(sender, invocation);
+            SectionView<SENDER> view = CommandService.this.sectionViewCache.view(this.section, cached.sender());
+            SuggestionStack stack = CommandService.this.top(this.section.findSuggestion(cached, 0, CommandService.this.searchLimit(), view).merge());
+
+            if (CommandService.this.metricsEnabled) {
+                CommandService.this.metrics.recordSuggestion(this.routeOf(invocation), System.nanoTime() - start);
+            }
+
+            return stack;
+        }
+
+        @Override
+        public CompletableFuture<SuggestionStack> suggestAsync(SENDER sender, LiteInvocation invocation) {
+            long start = CommandService.this.metricsEnabled ? System.nanoTime() : 0;
+            Invocation<SENDER> cached = this.invocation(sender, invocation);
+            SectionView<SENDER> view = CommandService.this.sectionViewCache.view(this.section, cached.sender());
+            CompletableFuture<SuggestionMerger> search = this.section.findSuggestionAsync(cached, 0, CommandService.this.searchLimit(), view);
+            CompletableFuture<SuggestionStack> future = search
+                    .thenApply(SuggestionMerger::merge)
+                    .thenApply(CommandService.this::top);
+
+            if (CommandService.this.metricsEnabled) {
+                String route = this.routeOf(invocation);
+
+                future = future.whenComplete((stack, throwable) -> CommandService.this.metrics.recordSuggestion(route, System.nanoTime() - start));
+            }
+
+            CompletableFuture<SuggestionStack> timed = FutureUtil.completeOnTimeout(future, SuggestionStack.empty(), suggestionTimeout);
+
+            if (timed != future) {
+                future.whenComplete((stack, throwable) -> {
+                    if (throwable instanceof CancellationException) {
+                        search.cancel(true);
+                    }
+                });
+            }
+
+            return timed;
+        }
+
+    }
+
 }
@@ -0,0 +1,98 @@
+package dev.rollczi.litecommands.command;
+
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptorRegistry;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
+import dev.rollczi.litecommands.command.section.SectionViewCache;
+import dev.rollczi.litecommands.suggestion.Suggestion;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Comparator;
+
+public final class CommandServiceSettings<SENDER> {
+
+    private Duration suggestionTimeout = CommandService.DEFAULT_SUGGESTION_TIMEOUT;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private @Nullable Comparator<Suggestion> suggestionComparator;
+    private PermissionCache permissionCache = PermissionCache.perInvocation();
+    private SectionViewCache<SENDER> sectionViewCache = SectionViewCache.disabled();
+    private CommandMetrics metrics = CommandMetrics.disabled();
+    private ExecuteInterceptorRegistry<SENDER> interceptors = new ExecuteInterceptorRegistry<>();
+
+    private CommandServiceSettings() {
+    }
+
+    public CommandServiceSettings<SENDER> suggestionTimeout(Duration suggestionTimeout) {
+        this.suggestionTimeout = suggestionTimeout;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> suggestionLimit(int suggestionLimit) {
+        if (suggestionLimit < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be greater than 0");
+        }
+
+        this.suggestionLimit = suggestionLimit;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> suggestionComparator(@Nullable Comparator<Suggestion> suggestionComparator) {
+        this.suggestionComparator = suggestionComparator;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> permissionCache(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> sectionViewCache(SectionViewCache<SENDER> sectionViewCache) {
+        this.sectionViewCache = sectionViewCache;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> metrics(CommandMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public CommandServiceSettings<SENDER> interceptors(ExecuteInterceptorRegistry<SENDER> interceptors) {
+        this.interceptors = interceptors;
+        return this;
+    }
+
+    public Duration getSuggestionTimeout() {
+        return this.suggestionTimeout;
+    }
+
+    public int getSuggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    @Nullable
+    public Comparator<Suggestion> getSuggestionComparator() {
+        return this.suggestionComparator;
+    }
+
+    public PermissionCache getPermissionCache() {
+        return this.permissionCache;
+    }
+
+    public SectionViewCache<SENDER> getSectionViewCache() {
+        return this.sectionViewCache;
+    }
+
+    public CommandMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    public ExecuteInterceptorRegistry<SENDER> getInterceptors() {
+        return this.interceptors;
+    }
+
+    public static <SENDER> CommandServiceSettings<SENDER> create() {
+        return new CommandServiceSettings<>();
+    }
+
+}
@@ -10,6 +10,7 @@ import dev.rollczi.litecommands.shared.Validation;
 import panda.std.Option;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -22,9 +23,9 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
 
     private final Invocation<SENDER> invocation;
 
-    private final List<CommandSection<SENDER>> sections;
+    private final Trace<CommandSection<SENDER>> sections;
     private final ArgumentExecutor<SENDER> executor;
-    private final List<AnnotatedParameterState<SENDER, ?>> arguments;
+    private final Trace<AnnotatedParameterState<SENDER, ?>> arguments;
 
     private final boolean found;
     private final boolean invalid;
@@ -32,9 +33,9 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
 
     private FindResult(
             Invocation<SENDER> invocation,
-            List<CommandSection<SENDER>> sections,
+            Trace<CommandSection<SENDER>> sections,
             ArgumentExecutor<SENDER> executor,
-            List<AnnotatedParameterState<SENDER, ?>> arguments,
+            Trace<AnnotatedParameterState<SENDER, ?>> arguments,
             boolean found,
             boolean invalid,
             Object result
@@ -51,22 +52,15 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
     public FindResult<SENDER> withSection(CommandSection<SENDER> section) {
         Validation.isNull(this.executor, "Executor is set");
 
-        List<CommandSection<SENDER>> sections = new ArrayList<>(this.sections);
-
-        sections.add(section);
-        return new FindResult<>(invocation, sections, null, arguments, found, invalid, result);
+        return new FindResult<>(invocation, this.sections.push(section), null, arguments, found, invalid, result);
     }
 
     public FindResult<SENDER> withExecutor(ArgumentExecutor<SENDER> executor) {
         Validation.isNull(this.executor, "Executor already set");
         Validation.isFalse(this.found, "This is the end of the command");
-        Validation.isNotEmpty(this.sections, "Executor must have a parent section");
-
-        if (sections.isEmpty()) {
-            throw new IllegalStateException();
-        }
+        Validation.isFalse(this.sections.isEmpty(), "Executor must have a parent section");
 
-        for (ArgumentExecutor<SENDER> exec : sections.get(sections.size() - 1).executors()) {
+        for (ArgumentExecutor<SENDER> exec : this.sections.last().executors()) {
             if (exec.equals(executor)) {
                 return new FindResult<>(invocation, sections, executor, arguments, false, invalid, result);
             }
@@ -80,9 +74,20 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
         Validation.isFalse(this.found, "FindResult is found");
         Validation.isFalse(this.invalid, "FindResult is invalid");
 
-        List<AnnotatedParameterState<SENDER, ?>> arguments = new ArrayList<>(this.arguments);
+        return new FindResult<>(invocation, sections, executor, this.arguments.push(state), false, false, result);
+    }
+
+    public FindResult<SENDER> withArguments(List<AnnotatedParameterState<SENDER, ?>> states) {
+        Validation.isNotNull(this.executor, "Executor not set");
+        Validation.isFalse(this.found, "FindResult is found");
+        Validation.isFalse(this.invalid, "FindResult is invalid");
+
+        Trace<AnnotatedParameterState<SENDER, ?>> arguments = this.arguments;
+
+        for (AnnotatedParameterState<SENDER, ?> state : states) {
+            arguments = arguments.push(state);
+        }
 
-        arguments.add(state);
         return new FindResult<>(invocation, sections, executor, arguments, false, false, result);
     }
 
@@ -128,7 +133,11 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
 
     @Override
     public List<CommandSection<SENDER>> getSections() {
-        return Collections.unmodifiableList(sections);
+        return this.sections.toList();
+    }
+
+    public Optional<CommandSection<SENDER>> getLastSection() {
+        return Optional.ofNullable(this.sections.last());
     }
 
     @Override
@@ -142,7 +151,7 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
     }
 
     public List<Argument<SENDER, ?>> getArguments() {
-        return this.arguments.stream()
+        return this.arguments.toList().stream()
                 .map(AnnotatedParameter::argument)
                 .collect(Collectors.toList());
     }
@@ -156,7 +165,7 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
 
         List<Object> results = new ArrayList<>();
 
-        for (AnnotatedParameterState<SENDER, ?> state : arguments) {
+        for (AnnotatedParameterState<SENDER, ?> state : this.arguments.toList()) {
             MatchResult matchResult = state.matchResult();
 
             if (matchResult.isNotMatched()) {
@@ -182,7 +191,7 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
             return true;
         }
 
-        if (this.sections.size() > findResult.sections.size()) {
+        if (this.sections.size > findResult.sections.size) {
             return true;
         }
 
@@ -190,7 +199,7 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
             return true;
         }
 
-        return this.arguments.size() > findResult.arguments.size();
+        return this.arguments.size > findResult.arguments.size;
     }
 
     public boolean isFound() {
@@ -206,7 +215,57 @@ public final class FindResult<SENDER> implements SchematicContext<SENDER> {
     }
 
     public static <T> FindResult<T> none(Invocation<T> invocation) {
-        return new FindResult<>(invocation, new ArrayList<>(), null,  new ArrayList<>(), false, false, null);
+        return new FindResult<>(invocation, Trace.empty(), null, Trace.empty(), false, false, null);
+    }
+
+    /**
+     * Immutable stack shared between results of the same find path,
+     * so a step costs a single node instead of a copy of the whole list.
+     */
+    private static final class Trace<T> {
+
+        private static final Trace<?> EMPTY = new Trace<>(null, null, 0);
+
+        private final T value;
+        private final Trace<T> previous;
+        private final int size;
+
+        private Trace(T value, Trace<T> previous, int size) {
+            this.value = value;
+            this.previous = previous;
+            this.size = size;
+        }
+
+        Trace<T> push(T value) {
+            return new Trace<>(value, this, this.size + 1);
+        }
+
+        T last() {
+            return this.value;
+        }
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> toList() {
+            Object[] values = new Object[this.size];
+            Trace<T> current = this;
+
+            for (int index = this.size - 1; index >= 0; index--) {
+                values[index] = current.value;
+                current = current.previous;
+            }
+
+            return Collections.unmodifiableList(Arrays.asList((T[]) values));
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Trace<T> empty() {
+            return (Trace<T>) EMPTY;
+        }
+
     }
 
 }
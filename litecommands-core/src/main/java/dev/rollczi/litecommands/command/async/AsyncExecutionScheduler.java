@@ -0,0 +1,36 @@
+package dev.rollczi.litecommands.command.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+public interface AsyncExecutionScheduler {
+
+    <T> CompletableFuture<T> supply(Supplier<T> supplier);
+
+    default void shutdown() {
+    }
+
+    static AsyncExecutionScheduler of(Executor executor) {
+        return new ExecutorAsyncExecutionScheduler(executor, false);
+    }
+
+    /**
+     * Runs every execution on its own virtual thread, or on the default bounded pool
+     * when the runtime does not support virtual threads (before Java 21).
+     */
+    static AsyncExecutionScheduler virtualThreads() {
+        return VirtualThreadExecutorFactory.create(DefaultAsyncExecutionScheduler.DEFAULT_THREAD_NAME)
+                .<AsyncExecutionScheduler>map(executor -> new ExecutorAsyncExecutionScheduler(executor, true))
+                .orElseGet(DefaultAsyncExecutionScheduler::create);
+    }
+
+    static boolean isVirtualThreadsSupported() {
+        return VirtualThreadExecutorFactory.isSupported();
+    }
+
+    static DefaultAsyncExecutionScheduler createDefault() {
+        return DefaultAsyncExecutionScheduler.create();
+    }
+
+}
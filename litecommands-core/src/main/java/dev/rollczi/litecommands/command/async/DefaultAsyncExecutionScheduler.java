@@ -0,0 +1,141 @@
+package dev.rollczi.litecommands.command.async;
+
+import dev.rollczi.litecommands.shared.FutureUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool shared by all asynchronous executions.
+ * When the queue is full, the task is counted as rejected and its future fails with {@link RejectedExecutionException},
+ * it is never executed on the calling thread (usually the main thread of the server).
+ */
+public class DefaultAsyncExecutionScheduler implements AsyncExecutionScheduler {
+
+    public static final String DEFAULT_THREAD_NAME = "litecommands-async";
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    private DefaultAsyncExecutionScheduler(int threads, int queueCapacity, String threadName) {
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory(threadName),
+                new CountingAbortPolicy(this.rejected)
+        );
+
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this.executor);
+        }
+        catch (RejectedExecutionException exception) {
+            return FutureUtil.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    public int getPoolSize() {
+        return this.executor.getPoolSize();
+    }
+
+    public int getActiveCount() {
+        return this.executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return this.executor.getQueue().size();
+    }
+
+    public int getQueueRemainingCapacity() {
+        return this.executor.getQueue().remainingCapacity();
+    }
+
+    public long getCompletedCount() {
+        return this.executor.getCompletedTaskCount();
+    }
+
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    public static DefaultAsyncExecutionScheduler create() {
+        return create(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static DefaultAsyncExecutionScheduler create(int threads, int queueCapacity) {
+        return create(threads, queueCapacity, DEFAULT_THREAD_NAME);
+    }
+
+    public static DefaultAsyncExecutionScheduler create(int threads, int queueCapacity, String threadName) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be greater than 0");
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0");
+        }
+
+        return new DefaultAsyncExecutionScheduler(threads, queueCapacity, threadName);
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String name;
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, this.name + "-" + this.counter.incrementAndGet());
+
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+    private static class CountingAbortPolicy implements RejectedExecutionHandler {
+
+        private final LongAdder rejected;
+
+        CountingAbortPolicy(LongAdder rejected) {
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Async execution scheduler is shut down");
+            }
+
+            this.rejected.increment();
+            throw new RejectedExecutionException("Async execution queue is full (" + executor.getQueue().size() + " tasks)");
+        }
+
+    }
+
+}
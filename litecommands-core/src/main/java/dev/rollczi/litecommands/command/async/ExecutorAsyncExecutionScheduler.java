@@ -0,0 +1,46 @@
+package dev.rollczi.litecommands.command.async;
+
+import dev.rollczi.litecommands.shared.FutureUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+class ExecutorAsyncExecutionScheduler implements AsyncExecutionScheduler {
+
+    private final Executor executor;
+    private final boolean owned;
+
+    /**
+     * @param owned whether {@link #shutdown()} should also shut down the executor,
+     *              only executors created by LiteCommands are owned
+     */
+    ExecutorAsyncExecutionScheduler(Executor executor, boolean owned) {
+        if (owned && !(executor instanceof ExecutorService)) {
+            throw new IllegalArgumentException("Owned executor must be an ExecutorService");
+        }
+
+        this.executor = executor;
+        this.owned = owned;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this.executor);
+        }
+        catch (RejectedExecutionException exception) {
+            return FutureUtil.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.owned) {
+            ((ExecutorService) this.executor).shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package dev.rollczi.litecommands.command.async;
+
+import panda.std.Option;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates a thread-per-task executor backed by virtual threads (Java 21+).
+ * Core targets Java 8, so the API is looked up reflectively.
+ */
+final class VirtualThreadExecutorFactory {
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method BUILDER_NAME = findMethod(findClass("java.lang.Thread$Builder"), "name", String.class, long.class);
+    private static final Method BUILDER_FACTORY = findMethod(findClass("java.lang.Thread$Builder"), "factory");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+
+    private static final boolean SUPPORTED = probe();
+
+    private VirtualThreadExecutorFactory() {
+    }
+
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    static Option<ExecutorService> create(String threadName) {
+        if (!SUPPORTED) {
+            return Option.none();
+        }
+
+        try {
+            ThreadFactory factory = createFactory(threadName + "-");
+
+            return Option.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory));
+        }
+        catch (ReflectiveOperationException | RuntimeException exception) {
+            return Option.none();
+        }
+    }
+
+    private static ThreadFactory createFactory(String prefix) throws ReflectiveOperationException {
+        Object builder = OF_VIRTUAL.invoke(null);
+
+        builder = BUILDER_NAME.invoke(builder, prefix, 1L);
+
+        return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+    }
+
+    /**
+     * The methods exist on Java 19 and 20 too, but there they throw unless preview features are enabled,
+     * so the only reliable check is to start a virtual thread.
+     */
+    private static boolean probe() {
+        if (OF_VIRTUAL == null || BUILDER_NAME == null || BUILDER_FACTORY == null || NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            return false;
+        }
+
+        try {
+            Thread thread = createFactory("litecommands-virtual-probe-").newThread(() -> {});
+
+            if (thread == null) {
+                return false;
+            }
+
+            thread.start();
+            thread.join();
+
+            return true;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        catch (ReflectiveOperationException | RuntimeException exception) {
+            return false;
+        }
+    }
+
+    private static Class<?> findClass(String name) {
+        try {
+            return Class.forName(name);
+        }
+        catch (ClassNotFoundException exception) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        if (type == null) {
+            return null;
+        }
+
+        try {
+            return type.getMethod(name, parameterTypes);
+        }
+        catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package dev.rollczi.litecommands.command.interceptor;
+
+import dev.rollczi.litecommands.command.FindResult;
+import dev.rollczi.litecommands.command.Invocation;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.handle.ExecuteResultHandler;
+import dev.rollczi.litecommands.meta.CommandMeta;
+
+/**
+ * Cursor over the interceptors of one execution. The interceptors are a compiled array,
+ * so proceeding is only an index increment. The chain ends in the execution of the command
+ * and the handling of its result.
+ * <p>
+ * Cursors are reused between executions, so the chain is valid only until {@link ExecuteInterceptor#intercept(ExecuteChain)} returns.
+ */
+public final class ExecuteChain<SENDER> {
+
+    private CommandSection<SENDER> root;
+    private ExecuteResultHandler<SENDER> handler;
+    private CommandSection<SENDER> section;
+    private Invocation<SENDER> invocation;
+    private LiteInvocation liteInvocation;
+    private FindResult<SENDER> findResult;
+    private String route;
+    private ExecuteInterceptor<SENDER>[] interceptors;
+    private int index;
+    private boolean handled;
+    private boolean active;
+
+    ExecuteChain() {
+    }
+
+    public ExecuteResult proceed() {
+        if (this.index < this.interceptors.length) {
+            return this.interceptors[this.index++].intercept(this);
+        }
+
+        if (this.handled) {
+            throw new IllegalStateException("Command is already executed");
+        }
+
+        ExecuteResult result = this.root.execute(this.invocation, this.findResult);
+
+        this.handled = true;
+        this.handler.handle(this.invocation.handle(), this.liteInvocation, result);
+        return result;
+    }
+
+    public Invocation<SENDER> getInvocation() {
+        return this.invocation;
+    }
+
+    public FindResult<SENDER> getFindResult() {
+        return this.findResult;
+    }
+
+    public CommandSection<SENDER> getSection() {
+        return this.section;
+    }
+
+    /**
+     * Names of the found sections separated by a space, e.g. {@code "eco give"}.
+     */
+    public String getRoute() {
+        return this.route;
+    }
+
+    /**
+     * Meta of the found executor, or of the last found section when no executor was found.
+     */
+    public CommandMeta getMeta() {
+        return this.findResult.getExecutor()
+                .map(ArgumentExecutor::meta)
+                .orElseGet(this.section::meta);
+    }
+
+    boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Runs the interceptors, a result returned without proceeding is handled here.
+     */
+    ExecuteResult run(CommandSection<SENDER> root, ExecuteResultHandler<SENDER> handler, ExecuteInterceptorChain.Link<SENDER> link, Invocation<SENDER> invocation, LiteInvocation liteInvocation, FindResult<SENDER> findResult) {
+        this.root = root;
+        this.handler = handler;
+        this.section = link.section;
+        this.route = link.route;
+        this.interceptors = link.interceptors;
+        this.invocation = invocation;
+        this.liteInvocation = liteInvocation;
+        this.findResult = findResult;
+        this.index = 0;
+        this.handled = false;
+        this.active = true;
+
+        try {
+            ExecuteResult result = this.proceed();
+
+            if (!this.handled) {
+                handler.handle(invocation.handle(), liteInvocation, result);
+            }
+
+            return result;
+        }
+        finally {
+            this.active = false;
+            this.invocation = null;
+            this.liteInvocation = null;
+            this.findResult = null;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package dev.rollczi.litecommands.command.interceptor;
+
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+
+/**
+ * Runs around the execution of a found command, e.g. for timing, auditing, cooldowns or feature flags.
+ * Call {@link ExecuteChain#proceed()} to continue, or return a result without proceeding to stop the execution.
+ * The result handler runs at the end of the chain, so it is inside every interceptor.
+ * A result returned without proceeding is passed to the result handler instead.
+ */
+@FunctionalInterface
+public interface ExecuteInterceptor<SENDER> {
+
+    ExecuteResult intercept(ExecuteChain<SENDER> chain);
+
+}
@@ -0,0 +1,74 @@
+package dev.rollczi.litecommands.command.interceptor;
+
+import dev.rollczi.litecommands.command.FindResult;
+import dev.rollczi.litecommands.command.Invocation;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.handle.ExecuteResultHandler;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Interceptors of one command, compiled by {@link ExecuteInterceptorRegistry#compile(CommandSection, ExecuteResultHandler)}.
+ * Each thread reuses its own {@link ExecuteChain}, a new one is created only for a nested execution of the same command.
+ */
+public final class ExecuteInterceptorChain<SENDER> {
+
+    private final CommandSection<SENDER> root;
+    private final ExecuteResultHandler<SENDER> handler;
+    private final Map<CommandSection<SENDER>, Link<SENDER>> links;
+    private final ThreadLocal<ExecuteChain<SENDER>> cursors = ThreadLocal.withInitial(ExecuteChain::new);
+
+    ExecuteInterceptorChain(CommandSection<SENDER> root, ExecuteResultHandler<SENDER> handler, Map<CommandSection<SENDER>, Link<SENDER>> links) {
+        this.root = root;
+        this.handler = handler;
+        this.links = links;
+    }
+
+    public boolean isEmpty() {
+        return this.links.isEmpty();
+    }
+
+    /**
+     * Executes the command and handles its result, both inside the interceptors of the found section.
+     */
+    public ExecuteResult execute(Invocation<SENDER> invocation, LiteInvocation liteInvocation, FindResult<SENDER> findResult) {
+        Link<SENDER> link = this.links.isEmpty() ? null : this.links.get(findResult.getLastSection().orElse(this.root));
+
+        if (link == null) {
+            ExecuteResult result = this.root.execute(invocation, findResult);
+
+            this.handler.handle(invocation.handle(), liteInvocation, result);
+            return result;
+        }
+
+        ExecuteChain<SENDER> cursor = this.cursors.get();
+
+        if (cursor.isActive()) {
+            cursor = new ExecuteChain<>();
+        }
+
+        return cursor.run(this.root, this.handler, link, invocation, liteInvocation, findResult);
+    }
+
+    static <SENDER> ExecuteInterceptorChain<SENDER> empty(CommandSection<SENDER> root, ExecuteResultHandler<SENDER> handler) {
+        return new ExecuteInterceptorChain<>(root, handler, Collections.emptyMap());
+    }
+
+    static final class Link<SENDER> {
+
+        final CommandSection<SENDER> section;
+        final String route;
+        final ExecuteInterceptor<SENDER>[] interceptors;
+
+        Link(CommandSection<SENDER> section, String route, ExecuteInterceptor<SENDER>[] interceptors) {
+            this.section = section;
+            this.route = route;
+            this.interceptors = interceptors;
+        }
+
+    }
+
+}
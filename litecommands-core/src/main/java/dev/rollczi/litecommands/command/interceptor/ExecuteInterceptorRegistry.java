@@ -0,0 +1,135 @@
+package dev.rollczi.litecommands.command.interceptor;
+
+import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.handle.ExecuteResultHandler;
+import dev.rollczi.litecommands.meta.CommandMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class ExecuteInterceptorRegistry<SENDER> {
+
+    private final List<Target<SENDER>> targets = new ArrayList<>();
+
+    /**
+     * Intercepts every command.
+     */
+    public void register(ExecuteInterceptor<SENDER> interceptor) {
+        this.targets.add(new Target<>(new String[0], interceptor));
+    }
+
+    /**
+     * Intercepts the given route and its sub-routes, e.g. {@code "eco"} or {@code "eco give"}.
+     * Names and aliases of sections are matched ignoring case.
+     */
+    public void register(String route, ExecuteInterceptor<SENDER> interceptor) {
+        String[] path = route.trim().split(" +");
+
+        if (path.length == 0 || path[0].isEmpty()) {
+            throw new IllegalArgumentException("Route of interceptor cannot be empty");
+        }
+
+        for (int index = 0; index < path.length; index++) {
+            path[index] = path[index].toLowerCase(Locale.ROOT);
+        }
+
+        this.targets.add(new Target<>(path, interceptor));
+    }
+
+    public boolean isEmpty() {
+        return this.targets.isEmpty();
+    }
+
+    /**
+     * Resolves the interceptors of every section of the command, so sections without interceptors are skipped at execution.
+     * Routes of the sections are read from {@link CommandMeta#ROUTE}.
+     */
+    public ExecuteInterceptorChain<SENDER> compile(CommandSection<SENDER> root, ExecuteResultHandler<SENDER> handler) {
+        if (this.targets.isEmpty()) {
+            return ExecuteInterceptorChain.empty(root, handler);
+        }
+
+        Map<CommandSection<SENDER>, ExecuteInterceptorChain.Link<SENDER>> links = new IdentityHashMap<>();
+        List<CommandSection<SENDER>> path = new ArrayList<>();
+
+        this.compile(root, path, links);
+
+        if (links.isEmpty()) {
+            return ExecuteInterceptorChain.empty(root, handler);
+        }
+
+        return new ExecuteInterceptorChain<>(root, handler, Collections.unmodifiableMap(links));
+    }
+
+    private void compile(CommandSection<SENDER> section, List<CommandSection<SENDER>> path, Map<CommandSection<SENDER>, ExecuteInterceptorChain.Link<SENDER>> links) {
+        path.add(section);
+
+        List<ExecuteInterceptor<SENDER>> matched = new ArrayList<>();
+
+        for (Target<SENDER> target : this.targets) {
+            if (target.matches(path)) {
+                matched.add(target.interceptor);
+            }
+        }
+
+        if (!matched.isEmpty()) {
+            links.put(section, new ExecuteInterceptorChain.Link<>(section, section.meta().get(CommandMeta.ROUTE), toArray(matched)));
+        }
+
+        for (CommandSection<SENDER> child : section.childrenSection()) {
+            this.compile(child, path, links);
+        }
+
+        path.remove(path.size() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <SENDER> ExecuteInterceptor<SENDER>[] toArray(List<ExecuteInterceptor<SENDER>> interceptors) {
+        return interceptors.toArray(new ExecuteInterceptor[0]);
+    }
+
+    private static final class Target<SENDER> {
+
+        private final String[] path;
+        private final ExecuteInterceptor<SENDER> interceptor;
+
+        private Target(String[] path, ExecuteInterceptor<SENDER> interceptor) {
+            this.path = path;
+            this.interceptor = interceptor;
+        }
+
+        boolean matches(List<CommandSection<SENDER>> sections) {
+            if (this.path.length > sections.size()) {
+                return false;
+            }
+
+            for (int index = 0; index < this.path.length; index++) {
+                if (!isNamed(sections.get(index), this.path[index])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static boolean isNamed(CommandSection<?> section, String name) {
+            if (section.getName().equalsIgnoreCase(name)) {
+                return true;
+            }
+
+            for (String alias : section.getAliases()) {
+                if (alias.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import panda.std.Option;
+
+import java.util.Collection;
+
+/**
+ * Records executions and suggestions of commands per route.
+ * Parse time covers finding the route and matching the arguments, invoke time covers the executor
+ * and handle time covers the result handlers.
+ * When {@link #isEnabled()} returns {@code false} nothing is measured at all.
+ */
+public interface CommandMetrics {
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    void recordExecution(String route, ExecuteResult result, long parseNanos, long invokeNanos, long handleNanos);
+
+    void recordSuggestion(String route, long nanos);
+
+    Collection<RouteMetrics> getRoutes();
+
+    Option<RouteMetrics> getRoute(String route);
+
+    void reset();
+
+    static CommandMetrics disabled() {
+        return DisabledCommandMetrics.INSTANCE;
+    }
+
+    static CommandMetrics create() {
+        return new DefaultCommandMetrics();
+    }
+
+}
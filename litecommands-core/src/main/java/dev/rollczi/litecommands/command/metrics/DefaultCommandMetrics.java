@@ -0,0 +1,132 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import panda.std.Option;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class DefaultCommandMetrics implements CommandMetrics {
+
+    private final Map<String, DefaultRouteMetrics> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordExecution(String route, ExecuteResult result, long parseNanos, long invokeNanos, long handleNanos) {
+        DefaultRouteMetrics metrics = this.route(route);
+
+        metrics.executions.increment();
+
+        if (result == null || result.isFailure()) {
+            metrics.failures.increment();
+        }
+        else if (result.isInvalid()) {
+            metrics.invalidUsages.increment();
+        }
+
+        metrics.parseLatency.record(parseNanos);
+        metrics.invokeLatency.record(invokeNanos);
+        metrics.handleLatency.record(handleNanos);
+    }
+
+    @Override
+    public void recordSuggestion(String route, long nanos) {
+        DefaultRouteMetrics metrics = this.route(route);
+
+        metrics.suggestions.increment();
+        metrics.suggestionLatency.record(nanos);
+    }
+
+    @Override
+    public Collection<RouteMetrics> getRoutes() {
+        return Collections.unmodifiableCollection(this.routes.values());
+    }
+
+    @Override
+    public Option<RouteMetrics> getRoute(String route) {
+        return Option.of(this.routes.get(route));
+    }
+
+    @Override
+    public void reset() {
+        this.routes.clear();
+    }
+
+    private DefaultRouteMetrics route(String route) {
+        DefaultRouteMetrics metrics = this.routes.get(route);
+
+        if (metrics != null) {
+            return metrics;
+        }
+
+        return this.routes.computeIfAbsent(route, DefaultRouteMetrics::new);
+    }
+
+    private static final class DefaultRouteMetrics implements RouteMetrics {
+
+        private final String route;
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder invalidUsages = new LongAdder();
+        private final LongAdder suggestions = new LongAdder();
+
+        private final LatencyHistogram parseLatency = new LatencyHistogram();
+        private final LatencyHistogram invokeLatency = new LatencyHistogram();
+        private final LatencyHistogram handleLatency = new LatencyHistogram();
+        private final LatencyHistogram suggestionLatency = new LatencyHistogram();
+
+        private DefaultRouteMetrics(String route) {
+            this.route = route;
+        }
+
+        @Override
+        public String route() {
+            return this.route;
+        }
+
+        @Override
+        public long executions() {
+            return this.executions.sum();
+        }
+
+        @Override
+        public long failures() {
+            return this.failures.sum();
+        }
+
+        @Override
+        public long invalidUsages() {
+            return this.invalidUsages.sum();
+        }
+
+        @Override
+        public long suggestions() {
+            return this.suggestions.sum();
+        }
+
+        @Override
+        public LatencyHistogram parseLatency() {
+            return this.parseLatency;
+        }
+
+        @Override
+        public LatencyHistogram invokeLatency() {
+            return this.invokeLatency;
+        }
+
+        @Override
+        public LatencyHistogram handleLatency() {
+            return this.handleLatency;
+        }
+
+        @Override
+        public LatencyHistogram suggestionLatency() {
+            return this.suggestionLatency;
+        }
+
+    }
+
+}
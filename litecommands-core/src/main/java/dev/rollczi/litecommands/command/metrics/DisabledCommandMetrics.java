@@ -0,0 +1,43 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import panda.std.Option;
+
+import java.util.Collection;
+import java.util.Collections;
+
+final class DisabledCommandMetrics implements CommandMetrics {
+
+    static final DisabledCommandMetrics INSTANCE = new DisabledCommandMetrics();
+
+    private DisabledCommandMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordExecution(String route, ExecuteResult result, long parseNanos, long invokeNanos, long handleNanos) {
+    }
+
+    @Override
+    public void recordSuggestion(String route, long nanos) {
+    }
+
+    @Override
+    public Collection<RouteMetrics> getRoutes() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Option<RouteMetrics> getRoute(String route) {
+        return Option.none();
+    }
+
+    @Override
+    public void reset() {
+    }
+
+}
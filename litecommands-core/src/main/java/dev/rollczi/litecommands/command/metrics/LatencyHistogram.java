@@ -0,0 +1,129 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed log-linear buckets (in the style of HdrHistogram).
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so a recorded value is reported
+ * with at most 12.5% error. Values above {@code 2^40} nanoseconds (about 18 minutes) share the last bucket.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 39;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        this.buckets.incrementAndGet(bucketOf(value));
+        this.count.increment();
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long totalNanos() {
+        return this.total.sum();
+    }
+
+    public long maxNanos() {
+        return this.max.get();
+    }
+
+    public double meanNanos() {
+        long count = this.count();
+
+        return count == 0 ? 0 : (double) this.totalNanos() / count;
+    }
+
+    /**
+     * @param percentile value between 0 and 100
+     * @return the highest value that is equivalent to the bucket containing the percentile, or 0 if nothing was recorded
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            snapshot[index] = this.buckets.get(index);
+            count += snapshot[index];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(percentile / 100.0 * count), 1);
+        long seen = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += snapshot[index];
+
+            if (seen >= rank) {
+                return Math.min(highestValueOf(index), this.maxNanos());
+            }
+        }
+
+        return this.maxNanos();
+    }
+
+    public long percentile(double percentile, TimeUnit unit) {
+        return unit.convert(this.percentileNanos(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            this.buckets.set(index, 0);
+        }
+
+        this.count.reset();
+        this.total.reset();
+        this.max.reset();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.rollczi.litecommands.command.metrics;
+
+/**
+ * Statistics of one command route, e.g. {@code "eco give"}.
+ */
+public interface RouteMetrics {
+
+    String route();
+
+    long executions();
+
+    long failures();
+
+    long invalidUsages();
+
+    long suggestions();
+
+    LatencyHistogram parseLatency();
+
+    LatencyHistogram invokeLatency();
+
+    LatencyHistogram handleLatency();
+
+    LatencyHistogram suggestionLatency();
+
+}
@@ -0,0 +1,55 @@
+package dev.rollczi.litecommands.command.permission;
+
+import dev.rollczi.litecommands.platform.LiteSender;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class CachedPermissionSender implements LiteSender {
+
+    private final LiteSender sender;
+    private Map<String, Boolean> results;
+
+    /**
+     * @param results shared results, or {@code null} to allocate own results on the first check
+     */
+    CachedPermissionSender(LiteSender sender, @Nullable Map<String, Boolean> results) {
+        this.sender = sender;
+        this.results = results;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        if (this.results == null) {
+            this.results = new HashMap<>(4);
+        }
+
+        Boolean cached = this.results.get(permission);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean result = this.sender.hasPermission(permission);
+
+        this.results.put(permission, result);
+        return result;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        this.sender.sendMessage(message);
+    }
+
+    @Override
+    public Object getHandle() {
+        return this.sender.getHandle();
+    }
+
+    @Override
+    public Object getIdentifier() {
+        return this.sender.getIdentifier();
+    }
+
+}
@@ -0,0 +1,124 @@
+package dev.rollczi.litecommands.command.permission;
+
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.platform.LiteSender;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes {@link LiteSender#hasPermission(String)} results.
+ * Results are shared by all checks made through one wrapped sender, and with a non-zero window
+ * they are also shared by every wrap of the same sender handle until the window elapses (e.g. one server tick).
+ * Platform permission gates (Bukkit {@code testPermission}, Minestom conditions) wrap the sender separately
+ * from the execution, so they share results with it only through a window.
+ * Call {@link #invalidate(Object)} when permissions of a sender change.
+ */
+public class PermissionCache {
+
+    public static final Duration TICK = Duration.ofMillis(50);
+
+    private static final int SWEEP_WINDOWS = 20;
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final Map<Object, Window> windows = new ConcurrentHashMap<>();
+    private volatile long nextSweep;
+
+    PermissionCache(Duration window, LongSupplier clock) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Permission cache window cannot be negative");
+        }
+
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+        this.nextSweep = clock.getAsLong();
+    }
+
+    public LiteInvocation wrap(LiteInvocation invocation) {
+        LiteSender sender = this.wrap(invocation.sender());
+
+        if (sender == invocation.sender()) {
+            return invocation;
+        }
+
+        return new LiteInvocation(sender, invocation.name(), invocation.label(), invocation.arguments());
+    }
+
+    public LiteSender wrap(LiteSender sender) {
+        if (sender instanceof CachedPermissionSender) {
+            return sender;
+        }
+
+        Object handle = sender.getHandle();
+
+        if (this.windowNanos == 0 || handle == null) {
+            return new CachedPermissionSender(sender, null);
+        }
+
+        long now = this.clock.getAsLong();
+
+        this.sweep(now);
+
+        Window window = this.windows.compute(handle, (key, current) -> current == null || current.isExpired(now)
+                ? new Window(now + this.windowNanos)
+                : current);
+
+        return new CachedPermissionSender(sender, window.results);
+    }
+
+    public void invalidate(Object handle) {
+        Window window = this.windows.remove(handle);
+
+        if (window != null) {
+            window.results.clear();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Window window : this.windows.values()) {
+            window.results.clear();
+        }
+
+        this.windows.clear();
+    }
+
+    public Duration getWindow() {
+        return Duration.ofNanos(this.windowNanos);
+    }
+
+    private void sweep(long now) {
+        if (now - this.nextSweep < 0) {
+            return;
+        }
+
+        this.nextSweep = now + this.windowNanos * SWEEP_WINDOWS;
+        this.windows.values().removeIf(window -> window.isExpired(now));
+    }
+
+    public static PermissionCache perInvocation() {
+        return new PermissionCache(Duration.ZERO, System::nanoTime);
+    }
+
+    public static PermissionCache create(Duration window) {
+        return new PermissionCache(window, System::nanoTime);
+    }
+
+    private static final class Window {
+
+        private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+        private final long expiresAt;
+
+        private Window(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - this.expiresAt >= 0;
+        }
+
+    }
+
+}
@@ -6,12 +6,12 @@ import dev.rollczi.litecommands.platform.LiteSender;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class RequiredPermissions {
 
+    private static final RequiredPermissions EMPTY = new RequiredPermissions(Collections.emptyList());
+
     private final List<String> permissions;
 
     public RequiredPermissions(Collection<String> permissions) {
@@ -35,20 +35,43 @@ public class RequiredPermissions {
     }
 
     public static RequiredPermissions of(CommandMeta meta, LiteSender liteSender) {
-        Set<String> perms = new HashSet<>(meta.getPermissions());
-        Set<String> noPermissions = new HashSet<>();
+        String[] permissions = meta.getEffectivePermissions();
 
-        perms.removeAll(meta.getExcludedPermissions());
+        for (int index = 0; index < permissions.length; index++) {
+            if (!liteSender.hasPermission(permissions[index])) {
+                return missing(permissions, index, liteSender);
+            }
+        }
 
-        for (String perm : perms) {
-            if (liteSender.hasPermission(perm)) {
-                continue;
+        return EMPTY;
+    }
+
+    public static boolean hasAll(CommandMeta meta, LiteSender liteSender) {
+        for (String permission : meta.getEffectivePermissions()) {
+            if (!liteSender.hasPermission(permission)) {
+                return false;
             }
+        }
 
-            noPermissions.add(perm);
+        return true;
+    }
+
+    private static RequiredPermissions missing(String[] permissions, int firstMissing, LiteSender liteSender) {
+        List<String> noPermissions = new ArrayList<>();
+
+        noPermissions.add(permissions[firstMissing]);
+
+        for (int index = firstMissing + 1; index < permissions.length; index++) {
+            if (!liteSender.hasPermission(permissions[index])) {
+                noPermissions.add(permissions[index]);
+            }
         }
 
         return new RequiredPermissions(noPermissions);
     }
 
+    public static RequiredPermissions empty() {
+        return EMPTY;
+    }
+
 }
@@ -11,7 +11,9 @@ import dev.rollczi.litecommands.suggestion.Suggester;
 import dev.rollczi.litecommands.suggestion.SuggestionMerger;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface CommandSection<SENDER> extends Suggester, MetaHolder {
 
@@ -23,8 +25,53 @@ public interface CommandSection<SENDER> extends Suggester, MetaHolder {
 
     ExecuteResult execute(Invocation<SENDER> invocation);
 
+    default ExecuteResult execute(Invocation<SENDER> invocation, FindResult<SENDER> findResult) {
+        Optional<ArgumentExecutor<SENDER>> executor = findResult.getExecutor();
+
+        if (executor.isPresent()) {
+            return executor.get().execute(invocation, findResult);
+        }
+
+        if (findResult.isInvalid()) {
+            return findResult.getResult()
+                    .map(result -> ExecuteResult.invalid(findResult, result))
+                    .orElseGet(() -> ExecuteResult.failure(findResult));
+        }
+
+        return ExecuteResult.failure(findResult);
+    }
+
     SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route);
 
+    default SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route, int limit) {
+        return SuggestionMerger.empty(invocation, limit)
+                .appendRoot(this.findSuggestion(invocation, route).merge());
+    }
+
+    default SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route, int limit, SectionView<SENDER> view) {
+        if (!view.isVisible(this)) {
+            return SuggestionMerger.empty(invocation, limit);
+        }
+
+        return this.findSuggestion(invocation, route, limit);
+    }
+
+    default CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route) {
+        return CompletableFuture.completedFuture(this.findSuggestion(invocation, route));
+    }
+
+    default CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route, int limit) {
+        return CompletableFuture.completedFuture(this.findSuggestion(invocation, route, limit));
+    }
+
+    default CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route, int limit, SectionView<SENDER> view) {
+        if (!view.isVisible(this)) {
+            return CompletableFuture.completedFuture(SuggestionMerger.empty(invocation, limit));
+        }
+
+        return this.findSuggestionAsync(invocation, route, limit);
+    }
+
     FindResult<SENDER> find(LiteInvocation invocation, int route, FindResult<SENDER> lastResult);
 
     /**
@@ -0,0 +1,58 @@
+package dev.rollczi.litecommands.command.section;
+
+import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
+import dev.rollczi.litecommands.command.permission.RequiredPermissions;
+import dev.rollczi.litecommands.platform.LiteSender;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+class PrunedSectionView<SENDER> implements SectionView<SENDER> {
+
+    private final Set<CommandSection<SENDER>> visible;
+    private final Set<ArgumentExecutor<SENDER>> visibleExecutors;
+
+    private PrunedSectionView(Set<CommandSection<SENDER>> visible, Set<ArgumentExecutor<SENDER>> visibleExecutors) {
+        this.visible = visible;
+        this.visibleExecutors = visibleExecutors;
+    }
+
+    @Override
+    public boolean isVisible(CommandSection<SENDER> section) {
+        return this.visible.contains(section);
+    }
+
+    @Override
+    public boolean isVisible(ArgumentExecutor<SENDER> executor) {
+        return this.visibleExecutors.contains(executor);
+    }
+
+    static <SENDER> PrunedSectionView<SENDER> of(CommandSection<SENDER> root, LiteSender sender) {
+        Set<CommandSection<SENDER>> visible = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<ArgumentExecutor<SENDER>> visibleExecutors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        collect(root, sender, visible, visibleExecutors);
+
+        return new PrunedSectionView<>(visible, visibleExecutors);
+    }
+
+    private static <SENDER> void collect(CommandSection<SENDER> section, LiteSender sender, Set<CommandSection<SENDER>> visible, Set<ArgumentExecutor<SENDER>> visibleExecutors) {
+        if (!RequiredPermissions.hasAll(section.meta(), sender)) {
+            return;
+        }
+
+        visible.add(section);
+
+        for (ArgumentExecutor<SENDER> executor : section.executors()) {
+            if (RequiredPermissions.hasAll(executor.meta(), sender)) {
+                visibleExecutors.add(executor);
+            }
+        }
+
+        for (CommandSection<SENDER> child : section.childrenSection()) {
+            collect(child, sender, visible, visibleExecutors);
+        }
+    }
+
+}
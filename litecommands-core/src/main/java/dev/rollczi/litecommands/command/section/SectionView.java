@@ -0,0 +1,43 @@
+package dev.rollczi.litecommands.command.section;
+
+import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
+import dev.rollczi.litecommands.command.permission.RequiredPermissions;
+import dev.rollczi.litecommands.platform.LiteSender;
+
+/**
+ * Sections and executors of a command tree that are visible to a sender.
+ */
+@FunctionalInterface
+public interface SectionView<SENDER> {
+
+    boolean isVisible(CommandSection<SENDER> section);
+
+    default boolean isVisible(ArgumentExecutor<SENDER> executor) {
+        return true;
+    }
+
+    /**
+     * View that checks the permissions of a section or executor every time it is visited.
+     */
+    static <SENDER> SectionView<SENDER> live(LiteSender sender) {
+        return new SectionView<SENDER>() {
+            @Override
+            public boolean isVisible(CommandSection<SENDER> section) {
+                return RequiredPermissions.hasAll(section.meta(), sender);
+            }
+
+            @Override
+            public boolean isVisible(ArgumentExecutor<SENDER> executor) {
+                return RequiredPermissions.hasAll(executor.meta(), sender);
+            }
+        };
+    }
+
+    /**
+     * View computed once for the whole tree of the given section. Subtrees of sections the sender cannot see are never visited.
+     */
+    static <SENDER> SectionView<SENDER> pruned(CommandSection<SENDER> root, LiteSender sender) {
+        return PrunedSectionView.of(root, sender);
+    }
+
+}
@@ -0,0 +1,96 @@
+package dev.rollczi.litecommands.command.section;
+
+import dev.rollczi.litecommands.platform.LiteSender;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a {@link SectionView#pruned(CommandSection, LiteSender) pruned view} of every command tree per sender handle.
+ * Views expire after the configured time and can be dropped earlier with {@link #invalidate(Object)}, e.g. from permission plugin events.
+ * With a zero expiration nothing is cached and sections are checked while they are visited.
+ */
+public class SectionViewCache<SENDER> {
+
+    private static final int SWEEP_INTERVALS = 4;
+
+    private final long expireAfterNanos;
+    private final LongSupplier clock;
+    private final Map<Object, Views<SENDER>> views = new ConcurrentHashMap<>();
+    private volatile long nextSweep;
+
+    SectionViewCache(Duration expireAfter, LongSupplier clock) {
+        if (expireAfter.isNegative()) {
+            throw new IllegalArgumentException("Section view expiration cannot be negative");
+        }
+
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.clock = clock;
+        this.nextSweep = clock.getAsLong();
+    }
+
+    public SectionView<SENDER> view(CommandSection<SENDER> root, LiteSender sender) {
+        Object handle = sender.getHandle();
+
+        if (this.expireAfterNanos == 0 || handle == null) {
+            return SectionView.live(sender);
+        }
+
+        long now = this.clock.getAsLong();
+
+        this.sweep(now);
+
+        Views<SENDER> views = this.views.compute(handle, (key, current) -> current == null || current.isExpired(now)
+                ? new Views<>(now + this.expireAfterNanos)
+                : current);
+
+        return views.roots.computeIfAbsent(root, key -> SectionView.pruned(root, sender));
+    }
+
+    public boolean isVisible(CommandSection<SENDER> root, LiteSender sender) {
+        return this.view(root, sender).isVisible(root);
+    }
+
+    public void invalidate(Object handle) {
+        this.views.remove(handle);
+    }
+
+    public void invalidateAll() {
+        this.views.clear();
+    }
+
+    private void sweep(long now) {
+        if (now - this.nextSweep < 0) {
+            return;
+        }
+
+        this.nextSweep = now + this.expireAfterNanos * SWEEP_INTERVALS;
+        this.views.values().removeIf(views -> views.isExpired(now));
+    }
+
+    public static <SENDER> SectionViewCache<SENDER> disabled() {
+        return new SectionViewCache<>(Duration.ZERO, System::nanoTime);
+    }
+
+    public static <SENDER> SectionViewCache<SENDER> create(Duration expireAfter) {
+        return new SectionViewCache<>(expireAfter, System::nanoTime);
+    }
+
+    private static final class Views<SENDER> {
+
+        private final Map<CommandSection<SENDER>, SectionView<SENDER>> roots = new ConcurrentHashMap<>();
+        private final long expiresAt;
+
+        private Views(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - this.expiresAt >= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,217 @@
+package dev.rollczi.litecommands.command.watchdog;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures synchronous executions (without {@code @Async}) and reports the ones exceeding the budget,
+ * e.g. {@link #TICK} on a server where commands are executed on the main thread.
+ * Running executions are sampled by a daemon thread, so a report contains the stack of the slow execution.
+ * Optionally a route is promoted to asynchronous execution after the given number of violations.
+ */
+public class ExecutionWatchdog {
+
+    public static final Duration TICK = Duration.ofMillis(50);
+    public static final String THREAD_NAME = "litecommands-watchdog";
+
+    private static final long MIN_SAMPLE_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final StackTraceElement[] NO_SAMPLE = new StackTraceElement[0];
+    private static final ExecutionWatchdog DISABLED = new ExecutionWatchdog();
+
+    private final boolean enabled;
+    private final long budgetNanos;
+    private final SlowExecutionSink sink;
+    private final int reportAfter;
+    private final int promoteAfter;
+    private final LongSupplier clock;
+    private final boolean sampling;
+
+    private final Set<Watch> running = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> violations = new ConcurrentHashMap<>();
+    private final Set<String> promoted = ConcurrentHashMap.newKeySet();
+    private volatile ScheduledExecutorService sampler;
+
+    private ExecutionWatchdog() {
+        this.enabled = false;
+        this.budgetNanos = Long.MAX_VALUE;
+        this.sink = execution -> {};
+        this.reportAfter = Integer.MAX_VALUE;
+        this.promoteAfter = 0;
+        this.clock = System::nanoTime;
+        this.sampling = false;
+    }
+
+    ExecutionWatchdog(Duration budget, SlowExecutionSink sink, int reportAfter, int promoteAfter, LongSupplier clock, boolean sampling) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Watchdog budget must be positive");
+        }
+
+        if (reportAfter < 1) {
+            throw new IllegalArgumentException("Report threshold must be greater than 0");
+        }
+
+        if (promoteAfter < 0) {
+            throw new IllegalArgumentException("Promotion threshold cannot be negative");
+        }
+
+        this.enabled = true;
+        this.budgetNanos = budget.toNanos();
+        this.sink = sink;
+        this.reportAfter = reportAfter;
+        this.promoteAfter = promoteAfter;
+        this.clock = clock;
+        this.sampling = sampling;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public Duration getBudget() {
+        return Duration.ofNanos(this.budgetNanos);
+    }
+
+    public Watch start(String route, String[] arguments) {
+        if (this.sampling && this.sampler == null) {
+            this.startSampler();
+        }
+
+        Watch watch = new Watch(route, arguments, Thread.currentThread(), this.clock.getAsLong());
+
+        this.running.add(watch);
+        return watch;
+    }
+
+    /**
+     * @return true when the route of the watch should be executed asynchronously from now on
+     */
+    public boolean finish(Watch watch) {
+        this.running.remove(watch);
+
+        long elapsed = this.clock.getAsLong() - watch.start;
+
+        if (elapsed <= this.budgetNanos) {
+            return false;
+        }
+
+        int count = this.violations.computeIfAbsent(watch.route, key -> new AtomicInteger()).incrementAndGet();
+        boolean promote = this.promoteAfter > 0 && count >= this.promoteAfter;
+
+        if (promote) {
+            this.promoted.add(watch.route);
+        }
+
+        if (count >= this.reportAfter) {
+            StackTraceElement[] sample = watch.sample;
+
+            this.sink.report(new SlowExecution(watch.route, watch.arguments, watch.thread.getName(), elapsed, this.budgetNanos, count, sample != null ? sample : NO_SAMPLE, promote));
+        }
+
+        return promote;
+    }
+
+    /**
+     * Takes a stack sample of every running execution which is over the budget and was not sampled yet.
+     */
+    void sample() {
+        long now = this.clock.getAsLong();
+
+        for (Watch watch : this.running) {
+            if (watch.sample == null && now - watch.start > this.budgetNanos) {
+                watch.sample = watch.thread.getStackTrace();
+            }
+        }
+    }
+
+    public int getViolations(String route) {
+        AtomicInteger count = this.violations.get(route);
+
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Every executor of a promoted route is executed asynchronously, not only the one which exceeded the budget.
+     */
+    public boolean isPromoted(String route) {
+        return this.promoted.contains(route);
+    }
+
+    public void resetViolations() {
+        this.violations.clear();
+    }
+
+    /**
+     * Stops the sampler thread, called by {@link dev.rollczi.litecommands.LiteCommands#unregister()}.
+     * The sampler is started again by the next watched execution.
+     */
+    public synchronized void shutdown() {
+        ScheduledExecutorService sampler = this.sampler;
+
+        if (sampler != null) {
+            sampler.shutdownNow();
+            this.sampler = null;
+        }
+    }
+
+    boolean isSampling() {
+        return this.sampler != null;
+    }
+
+    private synchronized void startSampler() {
+        if (this.sampler != null) {
+            return;
+        }
+
+        long period = Math.max(this.budgetNanos / 2, MIN_SAMPLE_PERIOD_NANOS);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        sampler.scheduleAtFixedRate(this::sample, period, period, TimeUnit.NANOSECONDS);
+        this.sampler = sampler;
+    }
+
+    public static ExecutionWatchdog disabled() {
+        return DISABLED;
+    }
+
+    public static ExecutionWatchdog create(Duration budget, SlowExecutionSink sink) {
+        return create(budget, sink, 1, 0);
+    }
+
+    /**
+     * @param reportAfter number of violations of a route before it is reported to the sink
+     * @param promoteAfter number of violations of a route before it is executed asynchronously, 0 to never promote
+     */
+    public static ExecutionWatchdog create(Duration budget, SlowExecutionSink sink, int reportAfter, int promoteAfter) {
+        return new ExecutionWatchdog(budget, sink, reportAfter, promoteAfter, System::nanoTime, true);
+    }
+
+    public static final class Watch {
+
+        private final String route;
+        private final String[] arguments;
+        private final Thread thread;
+        private final long start;
+        private volatile StackTraceElement[] sample;
+
+        private Watch(String route, String[] arguments, Thread thread, long start) {
+            this.route = route;
+            this.arguments = arguments;
+            this.thread = thread;
+            this.start = start;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package dev.rollczi.litecommands.command.watchdog;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class SlowExecution {
+
+    private final String route;
+    private final List<String> arguments;
+    private final String threadName;
+    private final long elapsedNanos;
+    private final long budgetNanos;
+    private final int violations;
+    private final StackTraceElement[] stackSample;
+    private final boolean promoted;
+
+    SlowExecution(String route, String[] arguments, String threadName, long elapsedNanos, long budgetNanos, int violations, StackTraceElement[] stackSample, boolean promoted) {
+        this.route = route;
+        this.arguments = Collections.unmodifiableList(Arrays.asList(arguments.clone()));
+        this.threadName = threadName;
+        this.elapsedNanos = elapsedNanos;
+        this.budgetNanos = budgetNanos;
+        this.violations = violations;
+        this.stackSample = stackSample;
+        this.promoted = promoted;
+    }
+
+    public String getRoute() {
+        return this.route;
+    }
+
+    public List<String> getArguments() {
+        return this.arguments;
+    }
+
+    public String getThreadName() {
+        return this.threadName;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(this.elapsedNanos);
+    }
+
+    public Duration getBudget() {
+        return Duration.ofNanos(this.budgetNanos);
+    }
+
+    /**
+     * Number of violations of the route, including this one.
+     */
+    public int getViolations() {
+        return this.violations;
+    }
+
+    /**
+     * Stack of the executing thread taken while the execution was over the budget,
+     * empty when the execution finished before the watchdog sampled it.
+     */
+    public StackTraceElement[] getStackSample() {
+        return this.stackSample.clone();
+    }
+
+    /**
+     * Whether the route will be executed asynchronously from now on.
+     */
+    public boolean isPromoted() {
+        return this.promoted;
+    }
+
+}
@@ -0,0 +1,12 @@
+package dev.rollczi.litecommands.command.watchdog;
+
+/**
+ * Receives synchronous executions which exceeded the budget of {@link ExecutionWatchdog}.
+ * Reports are delivered on the thread which executed the command, right after the execution.
+ */
+@FunctionalInterface
+public interface SlowExecutionSink {
+
+    void report(SlowExecution execution);
+
+}
@@ -6,16 +6,19 @@ import dev.rollczi.litecommands.schematic.SchematicFormat;
 import dev.rollczi.litecommands.schematic.SchematicGenerator;
 import dev.rollczi.litecommands.shared.MapUtil;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import panda.std.Option;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ExecuteResultHandler<SENDER> {
 
     private final Map<Class<?>, Handler<SENDER, ?>> handlers = new HashMap<>();
     private final Map<Class<?>, Redirector<?, ?>> redirectors = new HashMap<>();
+    private final Map<Class<?>, Resolution<SENDER>> resolutions = new ConcurrentHashMap<>();
 
     private SchematicGenerator schematicGenerator = SchematicGenerator.simple();
     private SchematicFormat schematicFormat = SchematicFormat.ARGUMENT_ANGLED_OPTIONAL_SQUARE;
@@ -69,24 +72,25 @@ public class ExecuteResultHandler<SENDER> {
     @ApiStatus.Internal
     public void handleResult(SENDER sender, LiteInvocation invocation, Object object) {
         Class<?> type = object.getClass();
-        Option<Handler<SENDER, ?>> handlerOpt = MapUtil.findSuperTypeOf(type, this.handlers);
+        Resolution<SENDER> resolution = this.resolve(type);
 
-        if (handlerOpt.isEmpty()) {
-            Redirector<?, ?> forwarding = this.redirectors.get(type);
+        if (resolution.handler != null) {
+            this.handleHandler(resolution.handler, sender, invocation, object);
+            return;
+        }
 
-            if (forwarding == null) {
-                throw new IllegalStateException("Missing result handler for type " + type);
-            }
+        if (resolution.redirector == null) {
+            throw new IllegalStateException("Missing result handler for type " + type);
+        }
 
-            Object to = this.handleRedirector(forwarding, object);
-            Handler<SENDER, ?> handler = MapUtil.findSuperTypeOf(to.getClass(), this.handlers)
-                .orThrow(() -> new IllegalStateException("Missing result handler for type " + type + " or for redirected type " + to.getClass()));
+        Object to = this.handleRedirector(resolution.redirector, object);
+        Handler<SENDER, ?> handler = this.resolve(to.getClass()).handler;
 
-            this.handleHandler(handler, sender, invocation, to);
-            return;
+        if (handler == null) {
+            throw new IllegalStateException("Missing result handler for type " + type + " or for redirected type " + to.getClass());
         }
 
-        this.handleHandler(handlerOpt.get(), sender, invocation, object);
+        this.handleHandler(handler, sender, invocation, to);
     }
 
     @SuppressWarnings("unchecked")
@@ -101,10 +105,45 @@ public class ExecuteResultHandler<SENDER> {
 
     public <FROM, TO> void registerRedirector(Class<FROM> from, Class<TO> to, Redirector<FROM, TO> redirector) {
         this.redirectors.put(from, redirector);
+        this.resolutions.clear();
     }
 
     public <T> void registerHandler(Class<T> type, Handler<SENDER, T> handler) {
         this.handlers.put(type, handler);
+        this.resolutions.clear();
+    }
+
+    /**
+     * Resolutions are cached in a plain map instead of a {@link ClassValue}, because values of a {@link ClassValue}
+     * stored on bootstrap classes such as {@link String} would keep the classloader of the registered handlers alive.
+     */
+    private Resolution<SENDER> resolve(Class<?> type) {
+        Resolution<SENDER> resolution = this.resolutions.get(type);
+
+        if (resolution != null) {
+            return resolution;
+        }
+
+        Option<Handler<SENDER, ?>> handler = MapUtil.findNearestSuperTypeOf(type, this.handlers);
+
+        resolution = handler.isPresent()
+                ? new Resolution<>(handler.get(), null)
+                : new Resolution<>(null, this.redirectors.get(type));
+
+        this.resolutions.put(type, resolution);
+        return resolution;
+    }
+
+    private static final class Resolution<SENDER> {
+
+        private final @Nullable Handler<SENDER, ?> handler;
+        private final @Nullable Redirector<?, ?> redirector;
+
+        private Resolution(@Nullable Handler<SENDER, ?> handler, @Nullable Redirector<?, ?> redirector) {
+            this.handler = handler;
+            this.redirector = redirector;
+        }
+
     }
 
 }
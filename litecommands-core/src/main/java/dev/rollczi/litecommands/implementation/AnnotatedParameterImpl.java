@@ -6,9 +6,13 @@ import dev.rollczi.litecommands.argument.Argument;
 import dev.rollczi.litecommands.argument.ArgumentContext;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
+import dev.rollczi.litecommands.shared.FutureUtil;
+import dev.rollczi.litecommands.shared.OverrideUtil;
 import dev.rollczi.litecommands.suggestion.Suggest;
 import dev.rollczi.litecommands.suggestion.Suggester;
 import dev.rollczi.litecommands.suggestion.Suggestion;
+import dev.rollczi.litecommands.suggestion.SuggestionIndex;
+import dev.rollczi.litecommands.suggestion.SuggestionLimit;
 import dev.rollczi.litecommands.suggestion.UniformSuggestionStack;
 import panda.std.Option;
 
@@ -17,18 +21,26 @@ import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 class AnnotatedParameterImpl<SENDER, A extends Annotation> implements AnnotatedParameter<SENDER, A> {
 
+    private static final Class<?>[] SUGGESTION_PARAMETERS = { LiteInvocation.class, Parameter.class, Annotation.class };
+
     private final A annotationInstance;
     private final Parameter parameter;
     private final Argument<SENDER, A> argument;
+    private final boolean indexed;
+    private final int suggestionLimit;
 
     AnnotatedParameterImpl(A annotationInstance, Parameter parameter, Argument<SENDER, A> argument) {
         this.annotationInstance = annotationInstance;
         this.parameter = parameter;
         this.argument = argument;
+        this.indexed = !parameter.isAnnotationPresent(Suggest.class)
+                && !OverrideUtil.isOverriddenBelow(argument.getClass(), SUGGESTION_PARAMETERS, "suggestionIndex", "suggestion", "suggestionAsync");
+        this.suggestionLimit = suggestionLimit(parameter, argument);
     }
 
     MatchResult match(LiteInvocation invocation, int route) {
@@ -39,6 +51,18 @@ class AnnotatedParameterImpl<SENDER, A extends Annotation> implements AnnotatedP
         return argument.suggestion(invocation, parameter, annotationInstance);
     }
 
+    CompletableFuture<List<Suggestion>> extractSuggestionAsync(LiteInvocation invocation) {
+        return argument.suggestionAsync(invocation, parameter, annotationInstance);
+    }
+
+    Option<SuggestionIndex> extractSuggestionIndex(LiteInvocation invocation) {
+        if (!this.indexed) {
+            return Option.none();
+        }
+
+        return argument.suggestionIndex(invocation, parameter, annotationInstance);
+    }
+
     @Deprecated
     AnnotatedParameterState<SENDER, A> createState(LiteInvocation invocation, int route) {
         return new AnnotatedParameterStateImpl<>(annotationInstance, parameter, argument, invocation, route);
@@ -77,6 +101,24 @@ class AnnotatedParameterImpl<SENDER, A extends Annotation> implements AnnotatedP
         return this.argument.getSchematic(parameter, annotationInstance);
     }
 
+    private static int suggestionLimit(Parameter parameter, Argument<?, ?> argument) {
+        SuggestionLimit limit = parameter.getAnnotation(SuggestionLimit.class);
+
+        if (limit == null) {
+            limit = argument.getNativeClass().getAnnotation(SuggestionLimit.class);
+        }
+
+        if (limit == null) {
+            return Integer.MAX_VALUE;
+        }
+
+        if (limit.value() < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be greater than 0 (parameter " + parameter.getName() + ")");
+        }
+
+        return limit.value();
+    }
+
     @Override
     public Suggester toSuggester(LiteInvocation invocation, int route) {
         return new SimpleSuggester<>(this, invocation);
@@ -97,11 +139,28 @@ class AnnotatedParameterImpl<SENDER, A extends Annotation> implements AnnotatedP
             return this.annotatedParameter.argument().validate(invocation, suggestion);
         }
 
+        @Override
+        public int suggestionLimit() {
+            return this.annotatedParameter.suggestionLimit;
+        }
+
+        @Override
+        public Option<SuggestionIndex> suggestionIndex() {
+            return this.annotatedParameter.extractSuggestionIndex(invocation);
+        }
+
         @Override
         public UniformSuggestionStack suggestion() {
             return UniformSuggestionStack.of(annotatedParameter.extractSuggestion(invocation))
                     .with(annotatedParameter.staticSuggestions());
         }
+
+        @Override
+        public CompletableFuture<UniformSuggestionStack> suggestionAsync() {
+            CompletableFuture<List<Suggestion>> suggestions = annotatedParameter.extractSuggestionAsync(invocation);
+
+            return FutureUtil.propagateCancellation(suggestions.thenApply(list -> UniformSuggestionStack.of(list).with(annotatedParameter.staticSuggestions())), suggestions);
+        }
     }
 
 }
@@ -6,18 +6,24 @@ import panda.std.Option;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 class ArgumentsRegistry<SENDER> {
 
-    private final Map<Class<? extends Annotation>, Map<Class<?>, Map<String, Argument<SENDER, ?>>>> arguments = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Map<String, Map<Class<?>, Argument<SENDER, ?>>>> arguments = new HashMap<>();
+    private final Map<List<Object>, Option<Argument<SENDER, ?>>> resolved = new HashMap<>();
 
     public void register(Class<? extends Annotation> by, Class<?> on, String name, Argument<SENDER, ?> argument) {
-        Map<Class<?>, Map<String, Argument<SENDER, ?>>> argumentsByClassesByName = arguments.computeIfAbsent(by, key -> new HashMap<>());
-        Map<String, Argument<SENDER, ?>> argumentsByName = argumentsByClassesByName.computeIfAbsent(on, key -> new HashMap<>());
+        Map<String, Map<Class<?>, Argument<SENDER, ?>>> argumentsByNamesByClasses = arguments.computeIfAbsent(by, key -> new HashMap<>());
+        Map<Class<?>, Argument<SENDER, ?>> argumentsByClass = argumentsByNamesByClasses.computeIfAbsent(name, key -> new HashMap<>());
 
-        argumentsByName.put(name, argument);
+        argumentsByClass.put(on, argument);
+        this.resolved.clear();
     }
 
     public void register(Class<? extends Annotation> by, Class<?> on, Argument<SENDER, ?> argument) {
@@ -25,41 +31,97 @@ class ArgumentsRegistry<SENDER> {
     }
 
     public Option<Argument<SENDER, ?>> getArgument(Class<? extends Annotation> by, Parameter on, String name) {
-        Map<Class<?>, Map<String, Argument<SENDER, ?>>> byClasses = arguments.get(by);
+        Map<String, Map<Class<?>, Argument<SENDER, ?>>> byNames = arguments.get(by);
+
+        if (byNames == null) {
+            return Option.none();
+        }
+
+        Map<Class<?>, Argument<SENDER, ?>> byClasses = byNames.get(name);
 
         if (byClasses == null) {
             return Option.none();
         }
 
-        Argument<SENDER, ?> argument = null;
-        Argument<SENDER, ?> assignableArgument = null;
+        Class<?> parameterType = on.getType();
+        Argument<SENDER, ?> exact = byClasses.get(parameterType);
 
-        for (Map.Entry<Class<?>, Map<String, Argument<SENDER, ?>>> entry : byClasses.entrySet()) {
-            Map<String, Argument<SENDER, ?>> byNames = entry.getValue();
-            Argument<SENDER, ?> argumentFromMap = byNames.get(name);
+        if (exact != null && exact.canHandle(parameterType, on)) {
+            return Option.of(exact);
+        }
 
-            if (argumentFromMap == null) {
-                continue;
-            }
+        List<Object> key = Arrays.asList(by, name, on.getParameterizedType());
+        Option<Argument<SENDER, ?>> cached = this.resolved.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Option<Argument<SENDER, ?>> argument = this.resolve(byClasses, on);
+
+        this.resolved.put(key, argument);
+        return argument;
+    }
+
+    public Option<Argument<SENDER, ?>> getArgument(Class<? extends Annotation> by, Parameter on) {
+        return this.getArgument(by, on, StringUtils.EMPTY);
+    }
+
+    private Option<Argument<SENDER, ?>> resolve(Map<Class<?>, Argument<SENDER, ?>> byClasses, Parameter on) {
+        List<Class<?>> handling = new ArrayList<>();
+        List<Class<?>> assignable = new ArrayList<>();
 
+        for (Map.Entry<Class<?>, Argument<SENDER, ?>> entry : byClasses.entrySet()) {
             Class<?> type = entry.getKey();
+            Argument<SENDER, ?> argument = entry.getValue();
 
-            if (argumentFromMap.canHandle(type, on)) {
-                argument = argumentFromMap;
-                break;
+            if (argument.canHandle(type, on)) {
+                handling.add(type);
+                continue;
             }
 
-            if (argumentFromMap.canHandleAssignableFrom(type, on)) {
-                assignableArgument = argumentFromMap;
+            if (argument.canHandleAssignableFrom(type, on)) {
+                assignable.add(type);
             }
         }
 
+        if (handling.size() > 1) {
+            throw ambiguous(on, handling);
+        }
+
+        if (handling.size() == 1) {
+            return Option.of(byClasses.get(handling.get(0)));
+        }
+
+        if (assignable.isEmpty()) {
+            return Option.none();
+        }
 
-        return Option.of(argument == null ? assignableArgument : argument);
+        return Option.of(byClasses.get(mostGeneral(on, assignable)));
     }
 
-    public Option<Argument<SENDER, ?>> getArgument(Class<? extends Annotation> by, Parameter on) {
-        return this.getArgument(by, on, StringUtils.EMPTY);
+    /**
+     * The registered type that is a super type of every other candidate, i.e. the closest one to the parameter type.
+     */
+    private static Class<?> mostGeneral(Parameter on, List<Class<?>> candidates) {
+        for (Class<?> candidate : candidates) {
+            boolean general = candidates.stream().allMatch(candidate::isAssignableFrom);
+
+            if (general) {
+                return candidate;
+            }
+        }
+
+        throw ambiguous(on, candidates);
+    }
+
+    private static IllegalArgumentException ambiguous(Parameter on, List<Class<?>> candidates) {
+        String types = candidates.stream()
+                .map(Class::getName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+
+        return new IllegalArgumentException("Ambiguous arguments for parameter " + on + " of " + on.getDeclaringExecutable() + ": " + types);
     }
 
 }
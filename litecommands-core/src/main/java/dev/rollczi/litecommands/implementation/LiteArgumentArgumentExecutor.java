@@ -7,8 +7,10 @@ import dev.rollczi.litecommands.command.FindResult;
 import dev.rollczi.litecommands.command.Invocation;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.command.MatchResult;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
 import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
 import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.handle.LiteException;
 import dev.rollczi.litecommands.meta.CommandMeta;
 import panda.std.Option;
@@ -18,20 +20,21 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 class LiteArgumentArgumentExecutor<SENDER> implements ArgumentExecutor<SENDER> {
 
-    private final ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
     private final MethodExecutor<SENDER> executor;
+    private final AsyncExecutionScheduler scheduler;
+    private final ExecutionWatchdog watchdog;
     private final List<AnnotatedParameterImpl<SENDER, ?>> arguments = new ArrayList<>();
 
     private final CommandMeta meta = CommandMeta.create();
 
-    private LiteArgumentArgumentExecutor(List<AnnotatedParameterImpl<SENDER, ?>> arguments, MethodExecutor<SENDER> executor) {
+
+    private LiteArgumentArgumentExecutor(List<AnnotatedParameterImpl<SENDER, ?>> arguments, MethodExecutor<SENDER> executor, AsyncExecutionScheduler scheduler, ExecutionWatchdog watchdog) {
         this.executor = executor;
+        this.scheduler = scheduler;
+        this.watchdog = watchdog;
         this.arguments.addAll(arguments);
     }
 
@@ -54,30 +57,64 @@ class LiteArgumentArgumentExecutor<SENDER> implements ArgumentExecutor<SENDER> {
         }
 
         if (Boolean.TRUE.equals(this.meta.get(CommandMeta.ASYNCHRONOUS))) {
-            CompletableFuture<Object> future = CompletableFuture
-                    .supplyAsync(() -> executor.execute(invocation, findResult.extractResults()), executorService);
+            return this.executeAsync(invocation, findResult);
+        }
 
-            return ExecuteResult.success(findResult, future);
+        if (this.watchdog.isEnabled()) {
+            return this.executeWatched(invocation, findResult);
         }
 
         return ExecuteResult.success(findResult, executor.execute(invocation, findResult.extractResults()));
     }
 
+    private ExecuteResult executeAsync(Invocation<SENDER> invocation, FindResult<SENDER> findResult) {
+        CompletableFuture<Object> future = this.scheduler
+                .supply(() -> executor.execute(invocation, findResult.extractResults()));
+
+        return ExecuteResult.success(findResult, future);
+    }
+
+    private ExecuteResult executeWatched(Invocation<SENDER> invocation, FindResult<SENDER> findResult) {
+        String route = this.routeOf(findResult);
+
+        if (this.watchdog.isPromoted(route)) {
+            return this.executeAsync(invocation, findResult);
+        }
+
+        List<Object> results = findResult.extractResults();
+        ExecutionWatchdog.Watch watch = this.watchdog.start(route, invocation.arguments());
+
+        try {
+            return ExecuteResult.success(findResult, executor.execute(invocation, results));
+        }
+        finally {
+            this.watchdog.finish(watch);
+        }
+    }
+
+    private String routeOf(FindResult<SENDER> findResult) {
+        return findResult.getLastSection()
+                .map(section -> section.meta().get(CommandMeta.ROUTE))
+                .orElse(CommandMeta.ROUTE.getDefaultValue());
+    }
+
     @Override
     public FindResult<SENDER> find(LiteInvocation invocation, int route, FindResult<SENDER> lastResult) {
         int currentRoute = route;
         FindResult<SENDER> currentResult = lastResult.withExecutor(this);
+        List<AnnotatedParameterState<SENDER, ?>> states = new ArrayList<>(this.arguments.size());
 
         for (AnnotatedParameterImpl<SENDER, ?> annotatedParameter : arguments) {
             Argument<SENDER, ?> argument = annotatedParameter.argument();
             AnnotatedParameterState<SENDER, ?> state = annotatedParameter.createState(invocation, currentRoute);
 
+            states.add(state);
+
             try {
                 MatchResult result = state.matchResult();
 
                 if (result.isNotMatched()) {
                     if (argument.isOptional()) {
-                        currentResult = currentResult.withArgument(state);
                         continue;
                     }
 
@@ -85,25 +122,26 @@ class LiteArgumentArgumentExecutor<SENDER> implements ArgumentExecutor<SENDER> {
 
                     if (resultNoMatchedResult.isPresent()) {
                         return currentResult
-                                .withArgument(state)
+                                .withArguments(states)
                                 .invalid(resultNoMatchedResult.get());
                     }
 
                     return currentResult
-                            .withArgument(state)
+                            .withArguments(states)
                             .failed();
                 }
 
-                currentResult = currentResult.withArgument(state);
                 currentRoute += result.getConsumed();
             }
             catch (LiteException exception) {
                 return currentResult
-                        .withArgument(state)
+                        .withArguments(states)
                         .invalid(exception.getResult());
             }
         }
 
+        currentResult = currentResult.withArguments(states);
+
         if (!meta.getAmountValidator().valid(invocation.arguments().length - route + 1)) {
             return currentResult.invalid();
         }
@@ -121,8 +159,8 @@ class LiteArgumentArgumentExecutor<SENDER> implements ArgumentExecutor<SENDER> {
         return this.meta;
     }
 
-    static <T> LiteArgumentArgumentExecutor<T> of(List<AnnotatedParameterImpl<T, ?>> arguments, MethodExecutor<T> executor) {
-        return new LiteArgumentArgumentExecutor<>(arguments, executor);
+    static <T> LiteArgumentArgumentExecutor<T> of(List<AnnotatedParameterImpl<T, ?>> arguments, MethodExecutor<T> executor, AsyncExecutionScheduler scheduler, ExecutionWatchdog watchdog) {
+        return new LiteArgumentArgumentExecutor<>(arguments, executor, scheduler, watchdog);
     }
 
 }
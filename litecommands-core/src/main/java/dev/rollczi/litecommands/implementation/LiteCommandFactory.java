@@ -3,8 +3,10 @@ package dev.rollczi.litecommands.implementation;
 
 import dev.rollczi.litecommands.argument.Argument;
 import dev.rollczi.litecommands.argument.By;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
 import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
 import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.factory.CommandEditor;
 import dev.rollczi.litecommands.factory.CommandEditorRegistry;
 import dev.rollczi.litecommands.factory.CommandState;
@@ -33,13 +35,17 @@ class LiteCommandFactory<SENDER> implements CommandStateFactory<SENDER> {
     private final ArgumentsRegistry<SENDER> argumentsRegistry;
     private final Set<CommandStateFactoryProcessor> processors = new HashSet<>();
     private final CommandEditorRegistry editorRegistry;
+    private final AsyncExecutionScheduler asyncScheduler;
+    private final ExecutionWatchdog watchdog;
 
     private final Set<FactoryAnnotationResolver<?>> annotationResolvers = new HashSet<>();
 
-    LiteCommandFactory(Injector<SENDER> injector, ArgumentsRegistry<SENDER> argumentsRegistry, CommandEditorRegistry editorRegistry) {
+    LiteCommandFactory(Injector<SENDER> injector, ArgumentsRegistry<SENDER> argumentsRegistry, CommandEditorRegistry editorRegistry, AsyncExecutionScheduler asyncScheduler, ExecutionWatchdog watchdog) {
         this.injector = injector;
         this.argumentsRegistry = argumentsRegistry;
         this.editorRegistry = editorRegistry;
+        this.asyncScheduler = asyncScheduler;
+        this.watchdog = watchdog;
     }
 
     @Override
@@ -180,7 +186,7 @@ class LiteCommandFactory<SENDER> implements CommandStateFactory<SENDER> {
     }
 
     private ArgumentExecutor<SENDER> createExecutor(Object object, Method method, CommandState state) {
-        MethodExecutor<SENDER> methodExecutor = new MethodExecutor<>(object, method, injector);
+        MethodExecutor<SENDER> methodExecutor = new MethodExecutor<>(injector.createInvoker(method, object));
         List<AnnotatedParameterImpl<SENDER, ?>> arguments = new ArrayList<>();
 
         for (Parameter parameter : method.getParameters()) {
@@ -204,7 +210,7 @@ class LiteCommandFactory<SENDER> implements CommandStateFactory<SENDER> {
             }
         }
 
-        LiteArgumentArgumentExecutor<SENDER> executor = LiteArgumentArgumentExecutor.of(arguments, methodExecutor);
+        LiteArgumentArgumentExecutor<SENDER> executor = LiteArgumentArgumentExecutor.of(arguments, methodExecutor, this.asyncScheduler, this.watchdog);
 
         executor.meta().applyCommandMeta(state.getMeta());
 
@@ -8,8 +8,8 @@ import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
 import dev.rollczi.litecommands.command.execute.ExecuteResult;
 import dev.rollczi.litecommands.command.permission.RequiredPermissions;
 import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.command.section.SectionView;
 import dev.rollczi.litecommands.meta.CommandMeta;
-import dev.rollczi.litecommands.platform.LiteSender;
 import dev.rollczi.litecommands.shared.Validation;
 import dev.rollczi.litecommands.suggestion.Suggester;
 import dev.rollczi.litecommands.suggestion.SuggesterResult;
@@ -17,15 +17,19 @@ import dev.rollczi.litecommands.suggestion.Suggestion;
 import dev.rollczi.litecommands.suggestion.SuggestionMerger;
 import dev.rollczi.litecommands.suggestion.SuggestionStack;
 import dev.rollczi.litecommands.suggestion.UniformSuggestionStack;
-import panda.std.Option;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
 
@@ -33,6 +37,7 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
 
     private final Set<String> aliases = new HashSet<>();
     private final List<CommandSection<SENDER>> childSections = new ArrayList<>();
+    private final NavigableMap<String, CommandSection<SENDER>> childIndex = new TreeMap<>();
     private final List<ArgumentExecutor<SENDER>> argumentExecutors = new ArrayList<>();
 
     private final CommandMeta meta = CommandMeta.create();
@@ -80,35 +85,25 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
 
     @Override
     public ExecuteResult execute(Invocation<SENDER> invocation) {
-        FindResult<SENDER> findResult = this.find(invocation.toLite(), 0, FindResult.none(invocation));
-        Optional<ArgumentExecutor<SENDER>> executor = findResult.getExecutor();
-
-        if (executor.isPresent()) {
-            ArgumentExecutor<SENDER> argumentExecutor = executor.get();
-
-            return argumentExecutor.execute(invocation, findResult);
-        }
-
-        if (findResult.isInvalid()) {
-            Option<Object> result = findResult.getResult();
+        return this.execute(invocation, this.find(invocation.toLite(), 0, FindResult.none(invocation)));
+    }
 
-            return result
-                    .map(o -> ExecuteResult.invalid(findResult, o))
-                    .orElseGet(() -> ExecuteResult.failure(findResult));
-        }
+    @Override
+    public SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route) {
+        return this.findSuggestion(invocation, route, Integer.MAX_VALUE);
+    }
 
-        return ExecuteResult.failure(findResult);
+    @Override
+    public SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route, int limit) {
+        return this.findSuggestion(invocation, route, limit, SectionView.live(invocation.sender()));
     }
 
     @Override
-    public SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route) {
-        SuggestionMerger suggestionMerger = SuggestionMerger.empty(invocation);
-        LiteSender sender = invocation.sender();
+    public SuggestionMerger findSuggestion(Invocation<SENDER> invocation, int route, int limit, SectionView<SENDER> view) {
+        SuggestionMerger suggestionMerger = SuggestionMerger.empty(invocation, limit);
 
-        for (String permission : this.meta.getPermissions()) {
-            if (!sender.hasPermission(permission)) {
-                return suggestionMerger;
-            }
+        if (!view.isVisible(this)) {
+            return suggestionMerger;
         }
 
         if (invocation.arguments().length == route) {
@@ -116,29 +111,37 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
         }
 
         int routeAbove = route + 1;
+        String argument = invocation.arguments()[route];
+        boolean isLast = routeAbove == invocation.arguments().length;
 
-        for (CommandSection<SENDER> section : this.childSections) {
-            SuggesterResult result = section.extractSuggestions(route, invocation.toLite());
-
-            if (result.isFailure()) {
-                continue;
+        for (CommandSection<SENDER> section : this.findChildSections(argument, isLast)) {
+            if (suggestionMerger.isFull()) {
+                return suggestionMerger;
             }
 
-            suggestionMerger.appendRoot(section.findSuggestion(invocation, routeAbove).merge());
+            suggestionMerger.appendRoot(section.findSuggestion(invocation, routeAbove, limit, view).merge());
         }
 
         LiteInvocation lite = invocation.toLite();
 
         for (ArgumentExecutor<SENDER> argumentExecutor : this.argumentExecutors) {
+            if (suggestionMerger.isFull()) {
+                return suggestionMerger;
+            }
+
+            if (!view.isVisible(argumentExecutor)) {
+                continue;
+            }
+
             List<AnnotatedParameter<SENDER, ?>> parameters = argumentExecutor.annotatedParameters();
 
-            suggestionMerger.appendRoot(this.suggestionParameters(lite, 0, routeAbove, 0, parameters));
+            suggestionMerger.appendRoot(this.suggestionParameters(lite, 0, routeAbove, 0, parameters, limit));
         }
 
         return suggestionMerger;
     }
 
-    private SuggestionStack suggestionParameters(LiteInvocation lite, int margin, int routeAbove, int parameterIndex, List<AnnotatedParameter<SENDER, ?>> parameters) {
+    private SuggestionStack suggestionParameters(LiteInvocation lite, int margin, int routeAbove, int parameterIndex, List<AnnotatedParameter<SENDER, ?>> parameters, int limit) {
         List<AnnotatedParameter<SENDER, ?>> list = parameters.subList(parameterIndex, parameters.size());
         int routeReal = routeAbove + parameterIndex;
 
@@ -154,7 +157,7 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
             return SuggestionStack.empty();
         }
 
-        SuggestionMerger merger = SuggestionMerger.empty(lite);
+        SuggestionMerger merger = SuggestionMerger.empty(lite, limit);
 
         UniformSuggestionStack suggest = result.getSuggestions();
         int nextMargin = margin + suggest.lengthMultilevel() - 1;
@@ -163,12 +166,14 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
             merger.append(routeReal + margin, suggest);
         }
 
-        SuggestionStack stack = suggestionParameters(lite, nextMargin, routeAbove, parameterIndex + 1, parameters);
+        if (!merger.isFull()) {
+            SuggestionStack stack = this.suggestionParameters(lite, nextMargin, routeAbove, parameterIndex + 1, parameters, limit);
 
-        merger.appendRoot(stack);
+            merger.appendRoot(stack);
+        }
 
-        if (parameter.argument().isOptional()) {
-            SuggestionStack optionalSuggestions = this.suggestionParameters(lite, nextMargin, routeAbove - 1, parameterIndex + 1, parameters);
+        if (!merger.isFull() && parameter.argument().isOptional()) {
+            SuggestionStack optionalSuggestions = this.suggestionParameters(lite, nextMargin, routeAbove - 1, parameterIndex + 1, parameters, limit);
 
             merger.append(routeReal, optionalSuggestions);
         }
@@ -176,36 +181,155 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
         return merger.merge();
     }
 
+    @Override
+    public CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route) {
+        return this.findSuggestionAsync(invocation, route, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route, int limit) {
+        return this.findSuggestionAsync(invocation, route, limit, SectionView.live(invocation.sender()));
+    }
+
+    @Override
+    public CompletableFuture<SuggestionMerger> findSuggestionAsync(Invocation<SENDER> invocation, int route, int limit, SectionView<SENDER> view) {
+        SuggestionWalk<SENDER> walk = new SuggestionWalk<>(invocation, limit, view);
+        CompletableFuture<SuggestionMerger> future = this.findSuggestionAsync(walk, route);
+
+        if (future.isDone()) {
+            return future;
+        }
+
+        CompletableFuture<SuggestionMerger> result = new CompletableFuture<>();
+
+        future.whenComplete((merger, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            result.complete(merger);
+        });
+
+        result.whenComplete((merger, throwable) -> {
+            if (result.isCancelled()) {
+                walk.cancel();
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Asynchronous suggestion walk, the walk tracks the pending future so it can be cancelled.
+     */
+    private CompletableFuture<SuggestionMerger> findSuggestionAsync(SuggestionWalk<SENDER> walk, int route) {
+        Invocation<SENDER> invocation = walk.invocation;
+        SuggestionMerger suggestionMerger = SuggestionMerger.empty(invocation, walk.limit);
+
+        if (!walk.view.isVisible(this)) {
+            return CompletableFuture.completedFuture(suggestionMerger);
+        }
+
+        if (invocation.arguments().length == route) {
+            return CompletableFuture.completedFuture(suggestionMerger.appendRoot(this.suggestion()));
+        }
+
+        int routeAbove = route + 1;
+        String argument = invocation.arguments()[route];
+        boolean isLast = routeAbove == invocation.arguments().length;
+
+        CompletableFuture<SuggestionMerger> future = CompletableFuture.completedFuture(suggestionMerger);
+
+        for (CommandSection<SENDER> section : this.findChildSections(argument, isLast)) {
+            future = future.thenCompose(merger -> merger.isFull() || walk.cancelled
+                    ? CompletableFuture.completedFuture(merger)
+                    : walk.findSuggestion(section, routeAbove).thenApply(child -> merger.appendRoot(child.merge())));
+        }
+
+        for (ArgumentExecutor<SENDER> argumentExecutor : this.argumentExecutors) {
+            if (!walk.view.isVisible(argumentExecutor)) {
+                continue;
+            }
+
+            List<AnnotatedParameter<SENDER, ?>> parameters = argumentExecutor.annotatedParameters();
+
+            future = future.thenCompose(merger -> merger.isFull() || walk.cancelled
+                    ? CompletableFuture.completedFuture(merger)
+                    : this.suggestionParametersAsync(walk, 0, routeAbove, 0, parameters).thenApply(merger::appendRoot));
+        }
+
+        return future;
+    }
+
+    private CompletableFuture<SuggestionStack> suggestionParametersAsync(SuggestionWalk<SENDER> walk, int margin, int routeAbove, int parameterIndex, List<AnnotatedParameter<SENDER, ?>> parameters) {
+        LiteInvocation lite = walk.lite;
+        List<AnnotatedParameter<SENDER, ?>> list = parameters.subList(parameterIndex, parameters.size());
+        int routeReal = routeAbove + parameterIndex;
+
+        if (walk.cancelled || list.isEmpty() || routeReal > lite.arguments().length) {
+            return CompletableFuture.completedFuture(SuggestionStack.empty());
+        }
+
+        AnnotatedParameter<SENDER, ?> parameter = list.get(0);
+        Suggester suggester = parameter.toSuggester(lite, routeAbove);
+
+        return walk.extractSuggestions(suggester, routeReal - 1 + margin).thenCompose(result -> {
+            if (result.isFailure()) {
+                return CompletableFuture.completedFuture(SuggestionStack.empty());
+            }
+
+            SuggestionMerger merger = SuggestionMerger.empty(lite, walk.limit);
+
+            UniformSuggestionStack suggest = result.getSuggestions();
+            int nextMargin = margin + suggest.lengthMultilevel() - 1;
+
+            if (!suggest.isEmpty()) {
+                merger.append(routeReal + margin, suggest);
+            }
+
+            if (merger.isFull()) {
+                return CompletableFuture.completedFuture(merger.merge());
+            }
+
+            return this.suggestionParametersAsync(walk, nextMargin, routeAbove, parameterIndex + 1, parameters).thenCompose(stack -> {
+                merger.appendRoot(stack);
+
+                if (merger.isFull() || !parameter.argument().isOptional()) {
+                    return CompletableFuture.completedFuture(merger.merge());
+                }
+
+                return this.suggestionParametersAsync(walk, nextMargin, routeAbove - 1, parameterIndex + 1, parameters)
+                        .thenApply(optionalSuggestions -> merger.append(routeReal, optionalSuggestions).merge());
+            });
+        });
+    }
+
     @Override
     public FindResult<SENDER> find(LiteInvocation invocation, int route, FindResult<SENDER> lastResult) {
         Optional<String> optional = invocation.argument(route);
 
+        FindResult<SENDER> current = lastResult.withSection(this);
         FindResult<SENDER> last = null;
 
         if (optional.isPresent()) {
-            String argument = optional.get();
-
-            for (CommandSection<SENDER> commandSection : childSections) {
-                if (!commandSection.isSimilar(argument)) {
-                    continue;
-                }
+            CommandSection<SENDER> commandSection = this.childIndex.get(toIndexKey(optional.get()));
 
-                FindResult<SENDER> findResult = commandSection.find(invocation, route + 1, lastResult.withSection(this));
+            if (commandSection != null) {
+                FindResult<SENDER> findResult = commandSection.find(invocation, route + 1, current);
 
                 if (findResult.isFound()) {
                     return findResult;
                 }
 
-                if (last == null || findResult.isLongerThan(last)) {
-                    last = findResult;
-                }
+                last = findResult;
             }
         }
 
         RequiredPermissions missingSection = RequiredPermissions.of(this.meta, invocation.sender());
 
         for (ArgumentExecutor<SENDER> argumentExecutor : argumentExecutors) {
-            FindResult<SENDER> findResult = argumentExecutor.find(invocation, route + 1, lastResult.withSection(this));
+            FindResult<SENDER> findResult = argumentExecutor.find(invocation, route + 1, current);
 
             if (findResult.isFound()) {
                 RequiredPermissions missingExecutor = RequiredPermissions.of(argumentExecutor.meta(), invocation.sender());
@@ -217,8 +341,7 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
 
                     RequiredPermissions all = missingSection.with(missingExecutor);
 
-                    return lastResult.withSection(this)
-                            .invalid(all);
+                    return current.invalid(all);
                 }
 
                 return findResult;
@@ -230,29 +353,60 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
         }
 
         if (!missingSection.isEmpty()) {
-            return lastResult.withSection(this)
-                    .invalid(missingSection);
+            return current.invalid(missingSection);
         }
 
-        return last != null ? last : lastResult.withSection(this);
+        return last != null ? last : current;
     }
 
     @Override
     public void childSection(CommandSection<SENDER> section) {
-        for (CommandSection<SENDER> commandSection : new ArrayList<>(childSections)) {
-            if (commandSection.isSimilar(section.getName())) {
-                commandSection.mergeSection(section);
-                return;
-            }
+        CommandSection<SENDER> similar = this.childIndex.get(toIndexKey(section.getName()));
 
-            for (String alias : section.getAliases()) {
-                if (commandSection.isSimilar(alias)) {
-                    throw new IllegalArgumentException("Command section with alias " + alias + " already exists.");
-                }
+        for (String alias : section.getAliases()) {
+            CommandSection<SENDER> withAlias = this.childIndex.get(toIndexKey(alias));
+
+            if (withAlias != null && withAlias != similar) {
+                throw new IllegalArgumentException("Command section with alias " + alias + " already exists.");
             }
         }
 
+        if (similar != null) {
+            similar.mergeSection(section);
+            this.indexChildSection(similar);
+            return;
+        }
+
         this.childSections.add(section);
+        this.indexChildSection(section);
+    }
+
+    private void indexChildSection(CommandSection<SENDER> section) {
+        this.childIndex.put(toIndexKey(section.getName()), section);
+
+        for (String alias : section.getAliases()) {
+            this.childIndex.put(toIndexKey(alias), section);
+        }
+    }
+
+    private Collection<CommandSection<SENDER>> findChildSections(String argument, boolean prefix) {
+        String key = toIndexKey(argument);
+
+        if (!prefix) {
+            CommandSection<SENDER> section = this.childIndex.get(key);
+
+            return section != null ? Collections.singleton(section) : Collections.emptySet();
+        }
+
+        NavigableMap<String, CommandSection<SENDER>> range = key.isEmpty()
+                ? this.childIndex
+                : this.childIndex.subMap(key, true, key + Character.MAX_VALUE, false);
+
+        return new LinkedHashSet<>(range.values());
+    }
+
+    private static String toIndexKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -293,4 +447,50 @@ class LiteCommandSection<SENDER> implements CommandSection<SENDER> {
         return this.meta;
     }
 
+    private static final class SuggestionWalk<SENDER> {
+
+        private final Invocation<SENDER> invocation;
+        private final LiteInvocation lite;
+        private final int limit;
+        private final SectionView<SENDER> view;
+
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<?> pending;
+
+        private SuggestionWalk(Invocation<SENDER> invocation, int limit, SectionView<SENDER> view) {
+            this.invocation = invocation;
+            this.lite = invocation.toLite();
+            this.limit = limit;
+            this.view = view;
+        }
+
+        private CompletableFuture<SuggestionMerger> findSuggestion(CommandSection<SENDER> section, int route) {
+            return this.track(section.findSuggestionAsync(this.invocation, route, this.limit, this.view));
+        }
+
+        private CompletableFuture<SuggesterResult> extractSuggestions(Suggester suggester, int route) {
+            return this.track(suggester.extractSuggestionsAsync(route, this.lite));
+        }
+
+        private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+            this.pending = future;
+
+            if (this.cancelled) {
+                future.cancel(true);
+            }
+
+            return future;
+        }
+
+        private void cancel() {
+            this.cancelled = true;
+            CompletableFuture<?> pending = this.pending;
+
+            if (pending != null) {
+                pending.cancel(true);
+            }
+        }
+
+    }
+
 }
@@ -12,8 +12,16 @@ import dev.rollczi.litecommands.argument.simple.MultilevelArgument;
 import dev.rollczi.litecommands.argument.simple.OneArgument;
 import dev.rollczi.litecommands.argument.simple.SimpleMultilevelArgument;
 import dev.rollczi.litecommands.command.CommandService;
+import dev.rollczi.litecommands.command.CommandServiceSettings;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptor;
+import dev.rollczi.litecommands.command.interceptor.ExecuteInterceptorRegistry;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
 import dev.rollczi.litecommands.command.permission.RequiredPermissions;
 import dev.rollczi.litecommands.command.section.CommandSection;
+import dev.rollczi.litecommands.command.section.SectionViewCache;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.contextual.Contextual;
 import dev.rollczi.litecommands.factory.CommandEditor;
 import dev.rollczi.litecommands.factory.CommandEditorRegistry;
@@ -32,11 +40,15 @@ import dev.rollczi.litecommands.platform.RegistryPlatform;
 import dev.rollczi.litecommands.schematic.Schematic;
 import dev.rollczi.litecommands.schematic.SchematicFormat;
 import dev.rollczi.litecommands.schematic.SchematicGenerator;
+import dev.rollczi.litecommands.suggestion.CachedSuggestionArgument;
+import dev.rollczi.litecommands.suggestion.Suggestion;
 import panda.std.Option;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -49,9 +61,18 @@ final class LiteCommandsBuilderImpl<SENDER> implements LiteCommandsBuilder<SENDE
 
     private final InjectorSettings<SENDER> injectorSettings = InjectorProvider.settings();
     private final ExecuteResultHandler<SENDER> executeResultHandler = new ExecuteResultHandler<>();
+    private final ExecuteInterceptorRegistry<SENDER> interceptorRegistry = new ExecuteInterceptorRegistry<>();
 
     private RegistryPlatform<SENDER> registryPlatform;
     private CommandStateFactory<SENDER> commandStateFactory;
+    private AsyncExecutionScheduler asyncScheduler;
+    private Duration suggestionTimeout = CommandService.DEFAULT_SUGGESTION_TIMEOUT;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private Comparator<Suggestion> suggestionComparator;
+    private PermissionCache permissionCache = PermissionCache.perInvocation();
+    private CommandMetrics commandMetrics = CommandMetrics.disabled();
+    private ExecutionWatchdog executionWatchdog = ExecutionWatchdog.disabled();
+    private Duration sectionViewExpiration = Duration.ZERO;
 
     private final List<LiteCommandsPreProcess<SENDER>> preProcess = new ArrayList<>();
     private final List<LiteCommandsPostProcess<SENDER>> postProcess = new ArrayList<>();
@@ -143,6 +164,70 @@ final class LiteCommandsBuilderImpl<SENDER> implements LiteCommandsBuilder<SENDE
         return this;
     }
 
+    @Override
+    public LiteCommandsBuilder<SENDER> asyncScheduler(AsyncExecutionScheduler scheduler) {
+        this.asyncScheduler = scheduler;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> permissionCache(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> sectionViewCache(Duration expireAfter) {
+        this.sectionViewExpiration = expireAfter;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> commandMetrics(CommandMetrics metrics) {
+        this.commandMetrics = metrics;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> executionWatchdog(ExecutionWatchdog watchdog) {
+        this.executionWatchdog = watchdog;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> interceptor(ExecuteInterceptor<SENDER> interceptor) {
+        this.interceptorRegistry.register(interceptor);
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> interceptor(String route, ExecuteInterceptor<SENDER> interceptor) {
+        this.interceptorRegistry.register(route, interceptor);
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> suggestionTimeout(Duration timeout) {
+        this.suggestionTimeout = timeout;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> suggestionLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be greater than 0");
+        }
+
+        this.suggestionLimit = limit;
+        return this;
+    }
+
+    @Override
+    public LiteCommandsBuilder<SENDER> suggestionComparator(Comparator<Suggestion> comparator) {
+        this.suggestionComparator = comparator;
+        return this;
+    }
+
     @Override
     public LiteCommandsBuilderImpl<SENDER> command(Class<?>... commandClass) {
         this.commandsClasses.addAll(Arrays.asList(commandClass));
@@ -211,13 +296,13 @@ final class LiteCommandsBuilderImpl<SENDER> implements LiteCommandsBuilder<SENDE
 
     @Override
     public <A extends Annotation> LiteCommandsBuilderImpl<SENDER> argument(Class<A> annotation, Class<?> on, Argument<SENDER, A> argument) {
-        this.argumentsRegistry.register(annotation, on, argument);
+        this.argumentsRegistry.register(annotation, on, CachedSuggestionArgument.wrapIfAnnotated(argument));
         return this;
     }
 
     @Override
     public <A extends Annotation> LiteCommandsBuilderImpl<SENDER> argument(Class<A> annotation, Class<?> on, String by, Argument<SENDER, A> argument) {
-        this.argumentsRegistry.register(annotation, on, by, argument);
+        this.argumentsRegistry.register(annotation, on, by, CachedSuggestionArgument.wrapIfAnnotated(argument));
         return this;
     }
 
@@ -249,12 +334,25 @@ final class LiteCommandsBuilderImpl<SENDER> implements LiteCommandsBuilder<SENDE
             process.process(this, this.registryPlatform, this.executeResultHandler, this.injectorSettings.create());
         }
 
-        CommandService<SENDER> commandService = new CommandService<>(this.registryPlatform, this.executeResultHandler);
+        if (this.asyncScheduler == null) {
+            this.asyncScheduler = AsyncExecutionScheduler.createDefault();
+        }
+
+        CommandServiceSettings<SENDER> serviceSettings = CommandServiceSettings.<SENDER>create()
+            .suggestionTimeout(this.suggestionTimeout)
+            .suggestionLimit(this.suggestionLimit)
+            .suggestionComparator(this.suggestionComparator)
+            .permissionCache(this.permissionCache)
+            .sectionViewCache(SectionViewCache.create(this.sectionViewExpiration))
+            .metrics(this.commandMetrics)
+            .interceptors(this.interceptorRegistry);
+
+        CommandService<SENDER> commandService = new CommandService<>(this.registryPlatform, this.executeResultHandler, serviceSettings);
         Injector<SENDER> injector = this.injectorSettings.create();
-        LiteCommands<SENDER> liteCommands = new LiteCommandsImpl<>(commandService, this.senderType, injector);
+        LiteCommands<SENDER> liteCommands = new LiteCommandsImpl<>(commandService, this.senderType, injector, this.asyncScheduler, this.executionWatchdog);
 
         if (this.commandStateFactory == null) {
-            this.commandStateFactory = new LiteCommandFactory<>(injector, this.argumentsRegistry, this.editorRegistry);
+            this.commandStateFactory = new LiteCommandFactory<>(injector, this.argumentsRegistry, this.editorRegistry, this.asyncScheduler, this.executionWatchdog);
         }
 
         for (Consumer<CommandStateFactory<SENDER>> editor : this.commandStateFactoryEditors) {
@@ -2,6 +2,9 @@ package dev.rollczi.litecommands.implementation;
 
 import dev.rollczi.litecommands.LiteCommands;
 import dev.rollczi.litecommands.command.CommandService;
+import dev.rollczi.litecommands.command.async.AsyncExecutionScheduler;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.watchdog.ExecutionWatchdog;
 import dev.rollczi.litecommands.handle.ExecuteResultHandler;
 import dev.rollczi.litecommands.injector.Injector;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
@@ -11,11 +14,15 @@ class LiteCommandsImpl<SENDER> implements LiteCommands<SENDER> {
     private final CommandService<SENDER> commandService;
     private final Injector<SENDER> injector;
     private final Class<SENDER> senderType;
+    private final AsyncExecutionScheduler asyncScheduler;
+    private final ExecutionWatchdog executionWatchdog;
 
-    LiteCommandsImpl(CommandService<SENDER> commandService, Class<SENDER> senderType,Injector<SENDER> injector) {
+    LiteCommandsImpl(CommandService<SENDER> commandService, Class<SENDER> senderType,Injector<SENDER> injector, AsyncExecutionScheduler asyncScheduler, ExecutionWatchdog executionWatchdog) {
         this.commandService = commandService;
         this.senderType = senderType;
         this.injector = injector;
+        this.asyncScheduler = asyncScheduler;
+        this.executionWatchdog = executionWatchdog;
     }
 
     @Override
@@ -43,4 +50,26 @@ class LiteCommandsImpl<SENDER> implements LiteCommands<SENDER> {
         return this.commandService.getHandler();
     }
 
+    @Override
+    public AsyncExecutionScheduler getAsyncScheduler() {
+        return this.asyncScheduler;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return this.commandService.getMetrics();
+    }
+
+    @Override
+    public ExecutionWatchdog getExecutionWatchdog() {
+        return this.executionWatchdog;
+    }
+
+    @Override
+    public void unregister() {
+        this.commandService.getPlatform().unregisterAll();
+        this.asyncScheduler.shutdown();
+        this.executionWatchdog.shutdown();
+    }
+
 }
@@ -2,27 +2,22 @@ package dev.rollczi.litecommands.implementation;
 
 import dev.rollczi.litecommands.command.Invocation;
 import dev.rollczi.litecommands.handle.LiteException;
-import dev.rollczi.litecommands.injector.Injector;
 import dev.rollczi.litecommands.injector.InvokeContext;
+import dev.rollczi.litecommands.injector.MethodInvoker;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
 class MethodExecutor<SENDER> {
 
-    private final Object instance;
-    private final Method method;
-    private final Injector<SENDER> injector;
+    private final MethodInvoker<SENDER> invoker;
 
-    MethodExecutor(Object instance, Method method, Injector<SENDER> injector) {
-        this.instance = instance;
-        this.method = method;
-        this.injector = injector;
+    MethodExecutor(MethodInvoker<SENDER> invoker) {
+        this.invoker = invoker;
     }
 
     Object execute(Invocation<SENDER> invocation, List<Object> args) {
         try {
-            return injector.invokeMethod(method, instance, new InvokeContext<>(invocation, args));
+            return invoker.invoke(new InvokeContext<>(invocation, args));
         }
         catch (LiteException exception) {
             return exception.getResult();
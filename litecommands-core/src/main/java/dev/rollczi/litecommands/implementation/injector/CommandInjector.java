@@ -6,6 +6,7 @@ import dev.rollczi.litecommands.injector.Injectable;
 import dev.rollczi.litecommands.injector.Injector;
 import dev.rollczi.litecommands.injector.InjectorSettings;
 import dev.rollczi.litecommands.injector.InvokeContext;
+import dev.rollczi.litecommands.injector.MethodInvoker;
 import dev.rollczi.litecommands.injector.MissingBindException;
 import dev.rollczi.litecommands.shared.ReflectFormat;
 import org.jetbrains.annotations.Nullable;
@@ -25,15 +26,18 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 class CommandInjector<SENDER> implements Injector<SENDER> {
 
+    private final LiteInjectorSettings<SENDER> settings;
+    private final Map<Executable, InjectionPlan<SENDER>> contextPlans = new ConcurrentHashMap<>();
+    private final Map<Executable, InjectionPlan<SENDER>> plans = new ConcurrentHashMap<>();
 
-    private final InjectorContextProcessor<SENDER> processor;
-
-    public CommandInjector(LiteInjectorSettings<SENDER> processor) {
-        this.processor = new InjectorContextProcessor<>(processor.duplicate());
+    public CommandInjector(LiteInjectorSettings<SENDER> settings) {
+        this.settings = settings.duplicate();
     }
 
     @Override
@@ -86,9 +90,14 @@ class CommandInjector<SENDER> implements Injector<SENDER> {
         return this.invokeMethod(method, instance, null);
     }
 
+    @Override
+    public MethodInvoker<SENDER> createInvoker(Method method, Object instance) {
+        return new MethodHandleInvoker<>(this, method, instance);
+    }
+
     @Override
     public InjectorSettings<SENDER> settings() {
-        return this.processor.settings().duplicate();
+        return this.settings.duplicate();
     }
 
     private <T extends Executable, R> Result<Option<R>, InjectException> invokeExecutables(T[] executables, @Nullable InvokeContext<SENDER> context, Invoker<T, R> invoker) {
@@ -104,50 +113,64 @@ class CommandInjector<SENDER> implements Injector<SENDER> {
             errors.add(result.getError());
         }
 
-        InjectException exception = new InjectException("Can not execute: " + Arrays.stream(executables).map(ReflectFormat::docsExecutable).collect(Collectors.joining(", ")));
+        return Result.error(executeException(executables, errors));
+    }
 
-        for (Exception error : errors) {
-            exception.addSuppressed(error);
+    private <T extends Executable, R> Result<Option<R>, InjectException> invokeExecutable(T executable, InvokeContext<SENDER> context, Invoker<T, R> invoker) {
+        Result<Object[], InjectException> resolved = this.resolveParameters(executable, context);
+
+        if (resolved.isErr()) {
+            return Result.error(resolved.getError());
         }
 
-        return Result.error(exception);
-    }
+        Object[] parameters = resolved.get();
 
-    private <T extends Executable, R> Result<Option<R>, InjectException> invokeExecutable(T executable, InvokeContext<SENDER> context, Invoker<T, R> invoker) {
-        boolean useContext = context != null;
-        Iterator<Object> iterator = useContext ? context.getInjectable().iterator() : Collections.emptyIterator();
+        try {
+            executable.setAccessible(true);
+            R result = invoker.apply(executable, parameters);
 
-        List<Object> parameters = new ArrayList<>();
-        List<Class<?>> missingBinds = new ArrayList<>();
-        List<Exception> missingBindsExceptions = new ArrayList<>();
+            return Result.ok(Option.of(result));
+        }
+        catch (Exception exception) {
+            Throwable cause = exception instanceof InvocationTargetException ? exception.getCause() : exception;
 
-        for (Parameter parameter : executable.getParameters()) {
-            Class<?> parameterType = parameter.getType();
+            return Result.error(invokeException(parameters, cause));
+        }
+    }
 
-            if (useContext && this.isInjectAnnotation(parameter)) {
-                if (!iterator.hasNext()) {
-                    if (executable instanceof Method) {
-                        return Result.error(new MissingBindException(Collections.singletonList(parameterType), "Missing " + ReflectFormat.singleClass(parameterType) + " argument for method: " + ReflectFormat.docsExecutable(executable) + " Have you added argument()?"));
-                    }
+    Result<Object[], InjectException> resolveParameters(Executable executable, @Nullable InvokeContext<SENDER> context) {
+        InjectionPlan<SENDER> plan = this.getPlan(executable, context != null);
+        Iterator<Object> iterator = context != null ? context.getInjectable().iterator() : Collections.emptyIterator();
 
-                    return Result.error(new MissingBindException(Collections.singletonList(parameterType), "Argument in constructor? Missing bind's"));
-                }
+        Object[] parameters = new Object[plan.size()];
+        List<Class<?>> missingBinds = null;
+        List<Exception> missingBindsExceptions = null;
+
+        for (int index = 0; index < parameters.length; index++) {
+            Object resolved = plan.resolve(index, context, iterator);
 
-                parameters.add(iterator.next());
+            if (resolved != InjectionPlan.UNRESOLVED) {
+                parameters[index] = resolved;
                 continue;
             }
 
-            Option<?> option = useContext
-                    ? this.processor.extract(parameter, context.getInvocation())
-                    : this.processor.extract(parameter);
+            Class<?> parameterType = plan.parameter(index).getType();
 
-            if (option.isPresent()) {
-                parameters.add(option.get());
-                continue;
+            if (plan.isInjectable(index)) {
+                if (executable instanceof Method) {
+                    return Result.error(new MissingBindException(Collections.singletonList(parameterType), "Missing " + ReflectFormat.singleClass(parameterType) + " argument for method: " + ReflectFormat.docsExecutable(executable) + " Have you added argument()?"));
+                }
+
+                return Result.error(new MissingBindException(Collections.singletonList(parameterType), "Argument in constructor? Missing bind's"));
             }
 
             Result<? extends Option<?>, InjectException> result = this.createInstance0(parameterType, context, true);
 
+            if (missingBinds == null) {
+                missingBinds = new ArrayList<>();
+                missingBindsExceptions = new ArrayList<>();
+            }
+
             if (result.isOk()) {
                 Option<?> optionReturnValue = result.get();
 
@@ -158,8 +181,8 @@ class CommandInjector<SENDER> implements Injector<SENDER> {
 
                 Object createdInstance = optionReturnValue.get();
 
-                parameters.add(createdInstance);
-                processor.settings().typeUnsafeBind(parameterType, parm -> createdInstance);
+                parameters[index] = createdInstance;
+                this.settings.typeUnsafeBind(parameterType, parm -> createdInstance);
                 continue;
             }
 
@@ -167,7 +190,7 @@ class CommandInjector<SENDER> implements Injector<SENDER> {
             missingBindsExceptions.add(result.getError());
         }
 
-        if (!missingBinds.isEmpty()) {
+        if (missingBinds != null && !missingBinds.isEmpty()) {
             MissingBindException exception = new MissingBindException(missingBinds, "Have you added type bind or contextual bind? " + ReflectFormat.docsExecutable(executable));
 
             for (Exception missingBindsException : missingBindsExceptions) {
@@ -177,24 +200,40 @@ class CommandInjector<SENDER> implements Injector<SENDER> {
             return Result.error(exception);
         }
 
-        try {
-            executable.setAccessible(true);
-            R result = invoker.apply(executable, parameters.toArray(new Object[0]));
+        return Result.ok(parameters);
+    }
 
-            return Result.ok(Option.of(result));
+    private InjectionPlan<SENDER> getPlan(Executable executable, boolean useContext) {
+        Map<Executable, InjectionPlan<SENDER>> plans = useContext ? this.contextPlans : this.plans;
+        InjectionPlan<SENDER> plan = plans.get(executable);
+
+        if (plan == null || !plan.isValid(this.settings)) {
+            plan = InjectionPlan.compile(executable, this.settings, useContext);
+            plans.put(executable, plan);
         }
-        catch (Exception exception) {
-            String formattedParams = parameters.stream()
-                    .map(obj -> obj.getClass().getName())
-                    .collect(Collectors.joining(", "));
 
-            Throwable cause = exception instanceof InvocationTargetException ? exception.getCause() : exception;
+        return plan;
+    }
 
-            return Result.error(new InjectException("Injected parameters: " + formattedParams, cause));
+    static InjectException executeException(Executable[] executables, List<? extends Exception> errors) {
+        InjectException exception = new InjectException("Can not execute: " + Arrays.stream(executables).map(ReflectFormat::docsExecutable).collect(Collectors.joining(", ")));
+
+        for (Exception error : errors) {
+            exception.addSuppressed(error);
         }
+
+        return exception;
+    }
+
+    static InjectException invokeException(Object[] parameters, Throwable cause) {
+        String formattedParams = Arrays.stream(parameters)
+                .map(obj -> obj.getClass().getName())
+                .collect(Collectors.joining(", "));
+
+        return new InjectException("Injected parameters: " + formattedParams, cause);
     }
 
-    private boolean isInjectAnnotation(Parameter parameter) {
+    static boolean isInjectAnnotation(Parameter parameter) {
         for (Annotation annotation : parameter.getAnnotations()) {
             if (annotation.annotationType().isAnnotationPresent(Injectable.class)) {
                 return true;
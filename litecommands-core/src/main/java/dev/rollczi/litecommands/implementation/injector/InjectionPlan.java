@@ -0,0 +1,138 @@
+package dev.rollczi.litecommands.implementation.injector;
+
+import dev.rollczi.litecommands.contextual.Contextual;
+import dev.rollczi.litecommands.handle.LiteException;
+import dev.rollczi.litecommands.injector.InvokeContext;
+import dev.rollczi.litecommands.injector.bind.AnnotationBind;
+import dev.rollczi.litecommands.injector.bind.TypeBind;
+import panda.std.Option;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.Iterator;
+
+/**
+ * Resolution strategy of every parameter of an {@link Executable}, compiled once
+ * against a given version of {@link LiteInjectorSettings}.
+ */
+class InjectionPlan<SENDER> {
+
+    static final Object UNRESOLVED = new Object();
+
+    private final Parameter[] parameters;
+    private final ParameterResolver<SENDER>[] resolvers;
+    private final boolean[] injectable;
+    private final int settingsVersion;
+
+    private InjectionPlan(Parameter[] parameters, ParameterResolver<SENDER>[] resolvers, boolean[] injectable, int settingsVersion) {
+        this.parameters = parameters;
+        this.resolvers = resolvers;
+        this.injectable = injectable;
+        this.settingsVersion = settingsVersion;
+    }
+
+    int size() {
+        return this.resolvers.length;
+    }
+
+    Parameter parameter(int index) {
+        return this.parameters[index];
+    }
+
+    boolean isInjectable(int index) {
+        return this.injectable[index];
+    }
+
+    Object resolve(int index, InvokeContext<SENDER> context, Iterator<Object> injectable) {
+        return this.resolvers[index].resolve(context, injectable);
+    }
+
+    boolean isValid(LiteInjectorSettings<SENDER> settings) {
+        return this.settingsVersion == settings.version();
+    }
+
+    static <SENDER> InjectionPlan<SENDER> compile(Executable executable, LiteInjectorSettings<SENDER> settings, boolean useContext) {
+        int version = settings.version();
+        Parameter[] parameters = executable.getParameters();
+
+        @SuppressWarnings("unchecked")
+        ParameterResolver<SENDER>[] resolvers = new ParameterResolver[parameters.length];
+        boolean[] injectable = new boolean[parameters.length];
+
+        for (int index = 0; index < parameters.length; index++) {
+            Parameter parameter = parameters[index];
+
+            if (useContext && CommandInjector.isInjectAnnotation(parameter)) {
+                injectable[index] = true;
+                resolvers[index] = (context, iterator) -> iterator.hasNext() ? iterator.next() : UNRESOLVED;
+                continue;
+            }
+
+            resolvers[index] = useContext
+                    ? compileWithContext(parameter, settings)
+                    : compileTypeBind(parameter, settings);
+        }
+
+        return new InjectionPlan<>(parameters, resolvers, injectable, version);
+    }
+
+    private static <SENDER> ParameterResolver<SENDER> compileWithContext(Parameter parameter, LiteInjectorSettings<SENDER> settings) {
+        for (Annotation annotation : parameter.getAnnotations()) {
+            Option<AnnotationBind<?, SENDER, ?>> annotationBind = settings.getAnnotationBind(annotation.annotationType(), parameter.getType());
+
+            if (annotationBind.isEmpty()) {
+                continue;
+            }
+
+            AnnotationBind<?, SENDER, ?> bind = annotationBind.get();
+
+            return (context, iterator) -> orUnresolved(extractAnnotation(bind, context, parameter, annotation));
+        }
+
+        Option<Contextual<SENDER, ?>> contextualBind = settings.getContextualBind(parameter.getType());
+
+        if (contextualBind.isPresent()) {
+            Contextual<SENDER, ?> contextual = contextualBind.get();
+            ParameterResolver<SENDER> fallback = compileTypeBind(parameter, settings);
+
+            return (context, iterator) -> {
+                Object value = contextual.extract(context.getInvocation().handle(), context.getInvocation())
+                        .orThrow(LiteException::new);
+
+                return value != null ? value : fallback.resolve(context, iterator);
+            };
+        }
+
+        return compileTypeBind(parameter, settings);
+    }
+
+    private static <SENDER> ParameterResolver<SENDER> compileTypeBind(Parameter parameter, LiteInjectorSettings<SENDER> settings) {
+        Option<TypeBind<?>> typeBind = settings.getTypeBind(parameter.getType());
+
+        if (typeBind.isEmpty()) {
+            return (context, iterator) -> UNRESOLVED;
+        }
+
+        TypeBind<?> bind = typeBind.get();
+
+        return (context, iterator) -> orUnresolved(bind.extract(parameter));
+    }
+
+    private static Object orUnresolved(Object value) {
+        return value != null ? value : UNRESOLVED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <SENDER, TYPE, ANNOTATION extends Annotation> Object extractAnnotation(AnnotationBind<TYPE, SENDER, ANNOTATION> annotationBind, InvokeContext<SENDER> context, Parameter parameter, Annotation annotation) {
+        return annotationBind.extract(context.getInvocation(), parameter, (ANNOTATION) annotation);
+    }
+
+    @FunctionalInterface
+    interface ParameterResolver<SENDER> {
+
+        Object resolve(InvokeContext<SENDER> context, Iterator<Object> injectable);
+
+    }
+
+}
@@ -11,6 +11,8 @@ import panda.std.Option;
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 class LiteInjectorSettings<SENDER> implements InjectorSettings<SENDER> {
@@ -18,34 +20,42 @@ class LiteInjectorSettings<SENDER> implements InjectorSettings<SENDER> {
     private final Map<Class<?>, TypeBind<?>> typeBinds = new HashMap<>();
     private final Map<Class<?>, Contextual<SENDER, ?>> contextualBinds = new HashMap<>();
     private final Map<Class<? extends Annotation>, Map<Class<?>, AnnotationBind<?, SENDER, ?>>> annotationBinds = new HashMap<>();
+    private final Map<Class<?>, Option<TypeBind<?>>> resolvedTypeBinds = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Option<Contextual<SENDER, ?>>> resolvedContextualBinds = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     @Override
     public <T> LiteInjectorSettings<SENDER> typeBind(Class<T> type, Supplier<T> supplier) {
         this.typeBinds.put(type, parameter -> supplier.get());
+        this.invalidate();
         return this;
     }
 
     @Override
     public InjectorSettings<SENDER> typeUnsafeBind(Class<?> type, TypeBind<?> supplier) {
         this.typeBinds.put(type, supplier);
+        this.invalidate();
         return this;
     }
 
     @Override
     public <T> InjectorSettings<SENDER> typeBind(Class<T> type, TypeBind<T> typeBind) {
         this.typeBinds.put(type, typeBind);
+        this.invalidate();
         return this;
     }
 
     @Override
     public <T, A extends Annotation> InjectorSettings<SENDER> annotationBind(Class<T> type, Class<A> on, AnnotationBind<T, SENDER, A> annotationBind) {
         this.annotationBinds.computeIfAbsent(on, k -> new HashMap<>()).put(type, annotationBind);
+        this.invalidate();
         return this;
     }
 
     @Override
     public <T> InjectorSettings<SENDER> contextualBind(Class<T> on, Contextual<SENDER, T> contextual) {
         this.contextualBinds.put(on, contextual);
+        this.invalidate();
         return this;
     }
 
@@ -64,12 +74,22 @@ class LiteInjectorSettings<SENDER> implements InjectorSettings<SENDER> {
         return settings;
     }
 
+    int version() {
+        return this.version.get();
+    }
+
+    private void invalidate() {
+        this.resolvedTypeBinds.clear();
+        this.resolvedContextualBinds.clear();
+        this.version.incrementAndGet();
+    }
+
     Option<TypeBind<?>> getTypeBind(Class<?> type) {
-        return MapUtil.findInstanceOf(type, typeBinds);
+        return this.resolvedTypeBinds.computeIfAbsent(type, key -> MapUtil.findInstanceOf(key, this.typeBinds));
     }
 
     Option<Contextual<SENDER, ?>> getContextualBind(Class<?> type) {
-        return MapUtil.findInstanceOf(type, contextualBinds);
+        return this.resolvedContextualBinds.computeIfAbsent(type, key -> MapUtil.findInstanceOf(key, this.contextualBinds));
     }
     
     Option<AnnotationBind<?, SENDER, ?>> getAnnotationBind(Class<? extends Annotation> annotation, Class<?> type) {
@@ -0,0 +1,70 @@
+package dev.rollczi.litecommands.implementation.injector;
+
+import dev.rollczi.litecommands.injector.InjectException;
+import dev.rollczi.litecommands.injector.InvokeContext;
+import dev.rollczi.litecommands.injector.MethodInvoker;
+import dev.rollczi.litecommands.shared.ReflectFormat;
+import panda.std.Result;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+
+class MethodHandleInvoker<SENDER> implements MethodInvoker<SENDER> {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final CommandInjector<SENDER> injector;
+    private final Method method;
+    private final MethodHandle handle;
+
+    MethodHandleInvoker(CommandInjector<SENDER> injector, Method method, Object instance) {
+        this.injector = injector;
+        this.method = method;
+        this.handle = createHandle(method, instance, method.getParameterCount());
+    }
+
+    @Override
+    public Object invoke(InvokeContext<SENDER> context) {
+        Result<Object[], InjectException> resolved = this.injector.resolveParameters(this.method, context);
+
+        if (resolved.isErr()) {
+            throw this.executeException(resolved.getError());
+        }
+
+        Object[] arguments = resolved.get();
+
+        try {
+            return (Object) this.handle.invokeExact(arguments);
+        }
+        catch (Throwable throwable) {
+            throw this.executeException(CommandInjector.invokeException(arguments, throwable));
+        }
+    }
+
+    private InjectException executeException(InjectException error) {
+        return CommandInjector.executeException(new Method[] { this.method }, Collections.singletonList(error));
+    }
+
+    private static MethodHandle createHandle(Method method, Object instance, int parameterCount) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(instance);
+            }
+
+            return handle
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(INVOKER_TYPE);
+        }
+        catch (IllegalAccessException exception) {
+            throw new InjectException("Can not access method " + ReflectFormat.docsExecutable(method), exception);
+        }
+    }
+
+}
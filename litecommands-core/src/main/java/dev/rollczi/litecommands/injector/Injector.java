@@ -12,6 +12,10 @@ public interface Injector<CONTEXT> {
 
     Object invokeMethod(Method method, Object instance);
 
+    default MethodInvoker<CONTEXT> createInvoker(Method method, Object instance) {
+        return context -> this.invokeMethod(method, instance, context);
+    }
+
     InjectorSettings<CONTEXT> settings();
 
 }
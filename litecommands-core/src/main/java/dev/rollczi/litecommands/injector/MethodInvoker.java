@@ -0,0 +1,8 @@
+package dev.rollczi.litecommands.injector;
+
+@FunctionalInterface
+public interface MethodInvoker<CONTEXT> {
+
+    Object invoke(InvokeContext<CONTEXT> context);
+
+}
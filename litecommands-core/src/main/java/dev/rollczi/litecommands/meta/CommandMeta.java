@@ -3,13 +3,21 @@ package dev.rollczi.litecommands.meta;
 import dev.rollczi.litecommands.command.amount.AmountValidator;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 public interface CommandMeta extends Meta {
 
     MetaKey<Boolean> ASYNCHRONOUS = MetaKey.of("asynchronous", Boolean.class, false);
 
+    /**
+     * Names of the sections from the root separated by a space, e.g. {@code "eco give"}.
+     * Assigned to every section when the command is registered.
+     */
+    MetaKey<String> ROUTE = MetaKey.of("route", String.class, "");
+
     @Override
     <T> CommandMeta set(MetaKey<T> key, T value);
 
@@ -36,6 +44,18 @@ public interface CommandMeta extends Meta {
 
     Collection<String> getPermissions();
 
+    /**
+     * Permissions without the excluded ones, computed once and reused until the permissions change.
+     * The returned array is shared and must not be modified.
+     * The default implementation computes a new array on every call.
+     */
+    default String[] getEffectivePermissions() {
+        Set<String> permissions = new HashSet<>(this.getPermissions());
+
+        permissions.removeAll(this.getExcludedPermissions());
+        return permissions.toArray(new String[0]);
+    }
+
     // Excluded Permission
 
     CommandMeta addExcludedPermission(String... permissions);
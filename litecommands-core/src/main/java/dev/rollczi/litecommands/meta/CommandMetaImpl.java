@@ -14,34 +14,40 @@ class CommandMetaImpl extends MetaData implements CommandMeta {
     private final Set<String> permissions = new HashSet<>();
     private final Set<String> excludedPermissions = new HashSet<>();
     private AmountValidator amountValidator = AmountValidator.NONE;
+    private volatile String[] effectivePermissions;
 
     @Override
     public CommandMetaImpl addPermission(String... permissions) {
         this.permissions.addAll(Arrays.asList(permissions));
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl addPermission(Collection<String> permissions) {
         this.permissions.addAll(permissions);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl removePermission(String... permissions) {
         Arrays.asList(permissions).forEach(this.permissions::remove);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl removePermission(Collection<String> permissions) {
         this.permissions.removeAll(permissions);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl clearPermissions() {
         this.permissions.clear();
+        this.effectivePermissions = null;
         return this;
     }
 
@@ -50,33 +56,53 @@ class CommandMetaImpl extends MetaData implements CommandMeta {
         return Collections.unmodifiableSet(permissions);
     }
 
+    @Override
+    public String[] getEffectivePermissions() {
+        String[] effective = this.effectivePermissions;
+
+        if (effective == null) {
+            Set<String> permissions = new HashSet<>(this.permissions);
+
+            permissions.removeAll(this.excludedPermissions);
+            effective = permissions.toArray(new String[0]);
+            this.effectivePermissions = effective;
+        }
+
+        return effective;
+    }
+
     @Override
     public CommandMetaImpl addExcludedPermission(String... permissions) {
         this.excludedPermissions.addAll(Arrays.asList(permissions));
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl addExcludedPermission(Collection<String> permissions) {
         this.excludedPermissions.addAll(permissions);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl removeExcludedPermission(String... permissions) {
         Arrays.asList(permissions).forEach(this.excludedPermissions::remove);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl removeExcludedPermission(Collection<String> permissions) {
         this.excludedPermissions.removeAll(permissions);
+        this.effectivePermissions = null;
         return this;
     }
 
     @Override
     public CommandMetaImpl clearExcludedPermissions() {
         this.excludedPermissions.clear();
+        this.effectivePermissions = null;
         return this;
     }
 
@@ -120,6 +146,7 @@ class CommandMetaImpl extends MetaData implements CommandMeta {
         this.permissions.addAll(meta.getPermissions());
         this.excludedPermissions.addAll(meta.getExcludedPermissions());
         this.apply(meta);
+        this.effectivePermissions = null;
         return this;
     }
 
@@ -8,4 +8,12 @@ public interface LiteSender {
 
     Object getHandle();
 
+    /**
+     * Unique identifier of the sender, e.g. the unique id of a player, used as a key of sender scoped caches.
+     * Platforms should override it, the default is the handle itself, which is kept alive as long as the cache entry.
+     */
+    default Object getIdentifier() {
+        return this.getHandle();
+    }
+
 }
@@ -3,9 +3,15 @@ package dev.rollczi.litecommands.platform;
 import dev.rollczi.litecommands.command.LiteInvocation;
 import dev.rollczi.litecommands.suggestion.SuggestionStack;
 
+import java.util.concurrent.CompletableFuture;
+
 @FunctionalInterface
 public interface SuggestionListener<SENDER> {
 
     SuggestionStack suggest(SENDER sender, LiteInvocation invocation);
 
+    default CompletableFuture<SuggestionStack> suggestAsync(SENDER sender, LiteInvocation invocation) {
+        return CompletableFuture.completedFuture(this.suggest(sender, invocation));
+    }
+
 }
@@ -1,16 +1,12 @@
 package dev.rollczi.litecommands.shared;
 
-import java.math.BigInteger;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -65,8 +61,11 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
         PART_TIME_UNITS.put(ChronoUnit.WEEKS, 4);
         PART_TIME_UNITS.put(ChronoUnit.MONTHS, 12);
         PART_TIME_UNITS.put(ChronoUnit.YEARS, Integer.MAX_VALUE);
+        PART_TIME_UNITS.put(ChronoUnit.DECADES, Integer.MAX_VALUE);
     }
 
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     public static final EstimatedTemporalAmountParser<Duration> TIME_UNITS = EstimatedTemporalAmountParser.createDuration()
         .withUnit("ms", ChronoUnit.MILLIS)
         .withUnit("s", ChronoUnit.SECONDS)
@@ -96,10 +95,11 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
     private final DurationExtractor<T> durationExtractor;
     private final BasisForTimeEstimation baseForTimeEstimation;
 
+    private final UnitEntry[] parseEntries;
+    private final UnitEntry[] formatEntries;
+
     private EstimatedTemporalAmountParser(TemporalAmountFactory<T> temporalAmountFactory, DurationExtractor<T> durationExtractor, BasisForTimeEstimation baseForTimeEstimation) {
-        this.temporalAmountFactory = temporalAmountFactory;
-        this.durationExtractor = durationExtractor;
-        this.baseForTimeEstimation = baseForTimeEstimation;
+        this(new LinkedHashMap<>(), temporalAmountFactory, durationExtractor, baseForTimeEstimation);
     }
 
     private EstimatedTemporalAmountParser(Map<String, ChronoUnit> units, TemporalAmountFactory<T> temporalAmountFactory, DurationExtractor<T> durationExtractor, BasisForTimeEstimation baseForTimeEstimation) {
@@ -107,6 +107,19 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
         this.durationExtractor = durationExtractor;
         this.baseForTimeEstimation = baseForTimeEstimation;
         this.units.putAll(units);
+
+        this.parseEntries = new UnitEntry[units.size()];
+        this.formatEntries = new UnitEntry[units.size()];
+
+        int index = 0;
+
+        for (Map.Entry<String, ChronoUnit> entry : units.entrySet()) {
+            UnitEntry unitEntry = new UnitEntry(entry.getKey(), entry.getValue());
+
+            this.parseEntries[index] = unitEntry;
+            this.formatEntries[units.size() - 1 - index] = unitEntry;
+            index++;
+        }
     }
 
     public EstimatedTemporalAmountParser<T> withUnit(String symbol, ChronoUnit chronoUnit) {
@@ -178,82 +191,115 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
             throw new IllegalArgumentException("Input is empty");
         }
 
-        Duration total = Duration.ZERO;
+        int length = input.length();
+        int index = 0;
         boolean negative = false;
 
-        StringBuilder number = new StringBuilder();
-        StringBuilder unit = new StringBuilder();
+        if (input.charAt(0) == '-') {
+            negative = true;
+            index++;
+        }
 
-        for (int i = 0; i < input.length(); i++) {
-            char c = input.charAt(i);
+        long seconds = 0;
+        long nanos = 0;
+        LocalDateTime basis = null;
 
-            if (c == '-') {
-                if (i != 0) {
-                    throw new IllegalArgumentException("Minus sign is only allowed at the start of the input");
+        while (index < length) {
+            int numberStart = index;
+            long count = 0;
+            boolean overflow = false;
+
+            for (; index < length && Character.isDigit(input.charAt(index)); index++) {
+                int digit = Character.digit(input.charAt(index), 10);
+
+                if (count > (Long.MAX_VALUE - digit) / 10) {
+                    overflow = true;
                 }
 
-                negative = true;
-                continue;
+                count = count * 10 + digit;
             }
 
-            if (Character.isDigit(c)) {
-                number.append(c);
-                continue;
+            int unitStart = index;
+
+            while (index < length && Character.isLetter(input.charAt(index))) {
+                index++;
             }
 
-            if (Character.isLetter(c)) {
-                unit.append(c);
+            if (index < length && !Character.isDigit(input.charAt(index))) {
+                char invalid = input.charAt(index);
+
+                if (invalid == '-') {
+                    throw new IllegalArgumentException("Minus sign is only allowed at the start of the input");
+                }
+
+                throw new IllegalArgumentException("Invalid character " + invalid + " in input");
             }
-            else {
-                throw new IllegalArgumentException("Invalid character " + c + " in input");
+
+            if (unitStart == index) {
+                throw new IllegalArgumentException("Input is not in the format of <number><unit>");
             }
 
-            if (i == input.length() - 1 || Character.isDigit(input.charAt(i + 1))) {
-                Duration duration = this.parseDuration(number.toString(), unit.toString());
+            if (numberStart == unitStart) {
+                throw new IllegalArgumentException("Missing number before unit " + input.substring(unitStart, index));
+            }
 
-                total = total.plus(duration);
+            UnitEntry entry = this.findEntry(input, unitStart, index);
 
-                number.setLength(0);
-                unit.setLength(0);
+            if (entry == null) {
+                throw new IllegalArgumentException("Unknown unit " + input.substring(unitStart, index));
             }
-        }
 
-        if (number.length() > 0 || unit.length() > 0) {
-            throw new IllegalArgumentException("Input is not in the format of <number><unit>");
-        }
+            if (overflow) {
+                throw new IllegalArgumentException("Invalid number " + input.substring(numberStart, unitStart));
+            }
 
-        if (negative) {
-            total = total.negated();
-        }
+            if (entry.chronoUnit.isDurationEstimated()) {
+                if (basis == null) {
+                    basis = this.baseForTimeEstimation.get();
+                }
 
-        return this.temporalAmountFactory.create(this.baseForTimeEstimation, total);
-    }
+                Duration duration = Duration.between(basis, basis.plus(count, entry.chronoUnit));
+
+                seconds = Math.addExact(seconds, duration.getSeconds());
+                nanos += duration.getNano();
+            }
+            else if (entry.secondsPerUnit > 0) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(count, entry.secondsPerUnit));
+            }
+            else {
+                seconds = Math.addExact(seconds, count / entry.unitsPerSecond);
+                nanos += count % entry.unitsPerSecond * entry.nanosPerUnit;
+            }
 
-    private Duration parseDuration(String number, String unit) {
-        if (number.isEmpty()) {
-            throw new IllegalArgumentException("Missing number before unit " + unit);
+            if (nanos >= NANOS_PER_SECOND) {
+                seconds = Math.addExact(seconds, nanos / NANOS_PER_SECOND);
+                nanos %= NANOS_PER_SECOND;
+            }
         }
 
-        ChronoUnit chronoUnit = this.units.get(unit);
+        Duration total = Duration.ofSeconds(seconds, nanos);
 
-        if (chronoUnit == null) {
-            throw new IllegalArgumentException("Unknown unit " + unit);
+        if (negative) {
+            total = total.negated();
         }
 
-        try {
-            long count = Long.parseLong(number);
+        BasisForTimeEstimation basisForTimeEstimation = basis != null
+            ? BasisForTimeEstimation.of(basis)
+            : this.baseForTimeEstimation;
 
-            if (chronoUnit.isDurationEstimated()) {
-                LocalDateTime localDate = this.baseForTimeEstimation.get();
-                LocalDateTime estimatedDate = localDate.plus(count, chronoUnit);
+        return this.temporalAmountFactory.create(basisForTimeEstimation, total);
+    }
 
-                return Duration.between(localDate, estimatedDate);
-            }
+    private UnitEntry findEntry(String input, int start, int end) {
+        int length = end - start;
 
-            return Duration.of(count, chronoUnit);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid number " + number);
+        for (UnitEntry entry : this.parseEntries) {
+            if (entry.symbol.length() == length && input.regionMatches(start, entry.symbol, 0, length)) {
+                return entry;
+            }
         }
+
+        return null;
     }
 
     /**
@@ -283,28 +329,32 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
             duration = duration.negated();
         }
 
-        List<String> keys = new ArrayList<>(this.units.keySet());
-        Collections.reverse(keys);
-
-        for (String key : keys) {
-            ChronoUnit chronoUnit = this.units.get(key);
-            Long part = UNIT_TO_NANO.get(chronoUnit);
+        long seconds = duration.getSeconds();
+        long nanos = duration.getNano();
 
-            if (part == null) {
-                throw new IllegalArgumentException("Unsupported unit " + chronoUnit);
+        for (UnitEntry entry : this.formatEntries) {
+            if (entry.formatPart == null) {
+                throw new IllegalArgumentException("Unsupported unit " + entry.chronoUnit);
             }
 
+            long count;
 
+            if (entry.formatPart >= NANOS_PER_SECOND) {
+                long secondsPart = entry.formatPart / NANOS_PER_SECOND;
 
-            BigInteger allCount = this.durationToNano(duration).divide(BigInteger.valueOf(part));
-            BigInteger count = allCount.mod(BigInteger.valueOf(PART_TIME_UNITS.get(chronoUnit)));
+                count = seconds / secondsPart % entry.formatModulo;
+                seconds -= count * secondsPart;
+            }
+            else {
+                count = nanos / entry.formatPart % entry.formatModulo;
+                nanos -= count * entry.formatPart;
+            }
 
-            if (count.equals(BigInteger.ZERO)) {
+            if (count == 0) {
                 continue;
             }
 
-            builder.append(count).append(key);
-            duration = duration.minusNanos(count.longValue() * part);
+            builder.append(count).append(entry.symbol);
         }
 
         return builder.toString();
@@ -371,10 +421,32 @@ public class EstimatedTemporalAmountParser<T extends TemporalAmount> {
 
     }
 
-    BigInteger durationToNano(Duration duration) {
-        return BigInteger.valueOf(duration.getSeconds())
-            .multiply(BigInteger.valueOf(1_000_000_000))
-            .add(BigInteger.valueOf(duration.getNano()));
+    private static final class UnitEntry {
+
+        private final String symbol;
+        private final ChronoUnit chronoUnit;
+
+        private final long secondsPerUnit;
+        private final long nanosPerUnit;
+        private final long unitsPerSecond;
+
+        private final Long formatPart;
+        private final long formatModulo;
+
+        private UnitEntry(String symbol, ChronoUnit chronoUnit) {
+            this.symbol = symbol;
+            this.chronoUnit = chronoUnit;
+
+            Duration duration = chronoUnit.getDuration();
+
+            this.secondsPerUnit = duration.getSeconds();
+            this.nanosPerUnit = duration.getNano();
+            this.unitsPerSecond = this.secondsPerUnit == 0 ? NANOS_PER_SECOND / this.nanosPerUnit : 0;
+
+            this.formatPart = UNIT_TO_NANO.get(chronoUnit);
+            this.formatModulo = PART_TIME_UNITS.getOrDefault(chronoUnit, Integer.MAX_VALUE);
+        }
+
     }
 
 }
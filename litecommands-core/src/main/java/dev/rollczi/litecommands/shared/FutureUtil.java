@@ -0,0 +1,77 @@
+package dev.rollczi.litecommands.shared;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public final class FutureUtil {
+
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
+    private FutureUtil() {}
+
+    public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Cancels the source future when the dependent future is cancelled, so cancellation reaches the original work.
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent, CompletableFuture<?> source) {
+        dependent.whenComplete((value, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+
+        return dependent;
+    }
+
+    /**
+     * Completes the result with the given value when the future does not complete in time, the late future is then cancelled.
+     */
+    public static <T> CompletableFuture<T> completeOnTimeout(CompletableFuture<T> future, T value, Duration timeout) {
+        if (future.isDone()) {
+            return future;
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeoutTask = TIMEOUT_SCHEDULER.schedule(() -> {
+            if (result.complete(value)) {
+                future.cancel(true);
+            }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        future.whenComplete((completed, throwable) -> {
+            timeoutTask.cancel(false);
+
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            result.complete(completed);
+        });
+
+        return result;
+    }
+
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "litecommands-timeout");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+}
@@ -2,7 +2,12 @@ package dev.rollczi.litecommands.shared;
 
 import panda.std.Option;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public final class MapUtil {
 
@@ -40,4 +45,40 @@ public final class MapUtil {
         return Option.none();
     }
 
+    /**
+     * Finds the element registered for the nearest super type of the given type.
+     * Super types are visited breadth-first (superclass before interfaces in declaration order)
+     * and {@link Object} is checked last, so the most specific type wins regardless of the map order.
+     */
+    public static <E> Option<E> findNearestSuperTypeOf(Class<?> type, Map<Class<?>, E> map) {
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+
+        queue.add(type);
+
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+
+            if (current == Object.class || !visited.add(current)) {
+                continue;
+            }
+
+            E element = map.get(current);
+
+            if (element != null) {
+                return Option.of(element);
+            }
+
+            Class<?> superclass = current.getSuperclass();
+
+            if (superclass != null) {
+                queue.add(superclass);
+            }
+
+            Collections.addAll(queue, current.getInterfaces());
+        }
+
+        return Option.of(map.get(Object.class));
+    }
+
 }
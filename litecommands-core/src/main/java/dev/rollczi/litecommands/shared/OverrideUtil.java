@@ -0,0 +1,43 @@
+package dev.rollczi.litecommands.shared;
+
+import java.lang.reflect.Method;
+
+public final class OverrideUtil {
+
+    private OverrideUtil() {}
+
+    /**
+     * Checks whether any of {@code overriding} methods is implemented in a more specific type of {@code type}
+     * than the one implementing {@code method}. All methods are public and take {@code parameterTypes},
+     * so overloads and helpers with the same name are not taken into account.
+     */
+    public static boolean isOverriddenBelow(Class<?> type, Class<?>[] parameterTypes, String method, String... overriding) {
+        Class<?> declaring = declaringClass(type, method, parameterTypes);
+
+        if (declaring == null) {
+            return false;
+        }
+
+        for (String name : overriding) {
+            Class<?> overridingDeclaring = declaringClass(type, name, parameterTypes);
+
+            if (overridingDeclaring != null && overridingDeclaring != declaring && declaring.isAssignableFrom(overridingDeclaring)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Class<?> declaringClass(Class<?> type, String name, Class<?>[] parameterTypes) {
+        try {
+            Method method = type.getMethod(name, parameterTypes);
+
+            return method.getDeclaringClass();
+        }
+        catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+}
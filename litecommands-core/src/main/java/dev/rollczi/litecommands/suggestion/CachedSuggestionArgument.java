@@ -0,0 +1,137 @@
+package dev.rollczi.litecommands.suggestion;
+
+import dev.rollczi.litecommands.argument.Argument;
+import dev.rollczi.litecommands.argument.ArgumentContext;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.MatchResult;
+import dev.rollczi.litecommands.shared.OverrideUtil;
+import panda.std.Option;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CachedSuggestionArgument<SENDER, A extends Annotation> implements Argument<SENDER, A> {
+
+    private static final Class<?>[] SUGGESTION_PARAMETERS = { LiteInvocation.class, Parameter.class, Annotation.class };
+
+    private final Argument<SENDER, A> argument;
+    private final SuggestionCache cache;
+    private final CachedSuggestions.Scope scope;
+    private final boolean perPrefix;
+    private final boolean indexed;
+
+    private CachedSuggestionArgument(Argument<SENDER, A> argument, SuggestionCache cache, CachedSuggestions.Scope scope, boolean perPrefix) {
+        this.argument = argument;
+        this.cache = cache;
+        this.scope = scope;
+        this.perPrefix = perPrefix;
+        this.indexed = !OverrideUtil.isOverriddenBelow(argument.getClass(), SUGGESTION_PARAMETERS, "suggestionIndex", "suggestion", "suggestionAsync");
+    }
+
+    @Override
+    public MatchResult match(LiteInvocation invocation, ArgumentContext<A> context) {
+        return this.argument.match(invocation, context);
+    }
+
+    @Override
+    public List<Suggestion> suggestion(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return new ArrayList<>(this.cachedIndex(invocation, parameter, annotation).toStack().suggestions());
+    }
+
+    @Override
+    public CompletableFuture<List<Suggestion>> suggestionAsync(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return this.cache.getAsync(this.createKey(invocation, parameter), () -> this.argument.suggestionAsync(invocation, parameter, annotation).thenApply(SuggestionIndex::of))
+                .thenApply(index -> new ArrayList<>(index.toStack().suggestions()));
+    }
+
+    @Override
+    public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return Option.of(this.cachedIndex(invocation, parameter, annotation));
+    }
+
+    private SuggestionIndex cachedIndex(LiteInvocation invocation, Parameter parameter, A annotation) {
+        return this.cache.get(this.createKey(invocation, parameter), () -> this.loadIndex(invocation, parameter, annotation));
+    }
+
+    private SuggestionIndex loadIndex(LiteInvocation invocation, Parameter parameter, A annotation) {
+        if (this.indexed) {
+            Option<SuggestionIndex> index = this.argument.suggestionIndex(invocation, parameter, annotation);
+
+            if (index.isPresent()) {
+                return index.get();
+            }
+        }
+
+        return SuggestionIndex.of(this.argument.suggestion(invocation, parameter, annotation));
+    }
+
+    private Object createKey(LiteInvocation invocation, Parameter parameter) {
+        Object sender = this.scope == CachedSuggestions.Scope.SENDER ? invocation.sender().getIdentifier() : null;
+        Object prefix = this.perPrefix ? invocation.lastArgument().orElse("") : null;
+
+        return Arrays.asList(parameter, sender, prefix);
+    }
+
+    @Override
+    public boolean validate(LiteInvocation invocation, Suggestion suggestion) {
+        return this.argument.validate(invocation, suggestion);
+    }
+
+    @Override
+    public boolean isOptional() {
+        return this.argument.isOptional();
+    }
+
+    @Override
+    public List<Object> defaultValue() {
+        return this.argument.defaultValue();
+    }
+
+    @Override
+    public Class<?> getNativeClass() {
+        return this.argument.getNativeClass();
+    }
+
+    @Override
+    public Option<String> getName(Parameter parameter, A annotation) {
+        return this.argument.getName(parameter, annotation);
+    }
+
+    @Override
+    public Option<String> getSchematic(Parameter parameter, A annotation) {
+        return this.argument.getSchematic(parameter, annotation);
+    }
+
+    @Override
+    public boolean canHandle(Class<?> type, Parameter parameter) {
+        return this.argument.canHandle(type, parameter);
+    }
+
+    @Override
+    public boolean canHandleAssignableFrom(Class<?> type, Parameter parameter) {
+        return this.argument.canHandleAssignableFrom(type, parameter);
+    }
+
+    public SuggestionCache getCache() {
+        return this.cache;
+    }
+
+    public static <SENDER, A extends Annotation> CachedSuggestionArgument<SENDER, A> of(Argument<SENDER, A> argument, SuggestionCache cache, CachedSuggestions.Scope scope, boolean perPrefix) {
+        return new CachedSuggestionArgument<>(argument, cache, scope, perPrefix);
+    }
+
+    public static <SENDER, A extends Annotation> Argument<SENDER, A> wrapIfAnnotated(Argument<SENDER, A> argument) {
+        CachedSuggestions settings = argument.getNativeClass().getAnnotation(CachedSuggestions.class);
+
+        if (settings == null || argument instanceof CachedSuggestionArgument) {
+            return argument;
+        }
+
+        return of(argument, SuggestionCache.create(settings), settings.scope(), settings.perPrefix());
+    }
+
+}
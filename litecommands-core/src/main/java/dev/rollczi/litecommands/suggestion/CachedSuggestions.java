@@ -0,0 +1,34 @@
+package dev.rollczi.litecommands.suggestion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches suggestions of the annotated argument class.
+ * Entries are keyed by the parameter, the {@link Scope} and optionally the typed prefix.
+ */
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedSuggestions {
+
+    long expireAfter() default 30;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int maximumSize() default 256;
+
+    Scope scope() default Scope.GLOBAL;
+
+    boolean perPrefix() default false;
+
+    enum Scope {
+        GLOBAL,
+        SENDER
+    }
+
+}
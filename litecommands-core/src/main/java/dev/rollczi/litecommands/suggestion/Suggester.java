@@ -1,21 +1,58 @@
 package dev.rollczi.litecommands.suggestion;
 
 import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.shared.FutureUtil;
+import panda.std.Option;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface Suggester {
 
     UniformSuggestionStack suggestion();
 
+    default CompletableFuture<UniformSuggestionStack> suggestionAsync() {
+        return CompletableFuture.completedFuture(this.suggestion());
+    }
+
+    default Option<SuggestionIndex> suggestionIndex() {
+        return Option.none();
+    }
+
+    default int suggestionLimit() {
+        return Integer.MAX_VALUE;
+    }
+
     default boolean validate(Suggestion suggestion) {
         return false;
     }
 
     default SuggesterResult extractSuggestions(int route, LiteInvocation invocation) {
+        Option<SuggestionIndex> index = this.suggestionIndex();
+
+        if (index.isPresent()) {
+            return this.extractSuggestions(route, invocation, index.get());
+        }
+
+        return this.extractSuggestions(route, invocation, this.suggestion());
+    }
+
+    default CompletableFuture<SuggesterResult> extractSuggestionsAsync(int route, LiteInvocation invocation) {
+        Option<SuggestionIndex> index = this.suggestionIndex();
+
+        if (index.isPresent()) {
+            return CompletableFuture.completedFuture(this.extractSuggestions(route, invocation, index.get()));
+        }
+
+        CompletableFuture<UniformSuggestionStack> suggestions = this.suggestionAsync();
+
+        return FutureUtil.propagateCancellation(suggestions.thenApply(stack -> this.extractSuggestions(route, invocation, stack)), suggestions);
+    }
+
+    default SuggesterResult extractSuggestions(int route, LiteInvocation invocation, UniformSuggestionStack stack) {
         String[] rawArguments = invocation.arguments();
-        UniformSuggestionStack stack = this.suggestion();
         int end = Math.min(route + stack.lengthMultilevel(), rawArguments.length);
 
         if (route > end) {
@@ -31,16 +68,43 @@ public interface Suggester {
         String multilevel = String.join(" ", multilevelArguments)
                 .toLowerCase();
 
-        UniformSuggestionStack suggestionStack = UniformSuggestionStack.empty(stack.lengthMultilevel());
-
         boolean isLast = end == rawArguments.length;
 
+        int limit = this.suggestionLimit();
+        List<Suggestion> matched = new ArrayList<>();
+
         for (Suggestion suggestion : stack.suggestions()) {
+            if (matched.size() >= limit) {
+                break;
+            }
+
             if ((isLast && suggestion.multilevel().toLowerCase().startsWith(multilevel)) || suggestion.multilevel().equalsIgnoreCase(multilevel)) {
-                suggestionStack = suggestionStack.with(suggestion);
+                matched.add(suggestion);
             }
         }
 
+        UniformSuggestionStack suggestionStack = UniformSuggestionStack.of(matched, stack.lengthMultilevel());
+
+        return new SuggesterResult(suggestionStack, !suggestionStack.isEmpty() || this.validate(Suggestion.multilevel(multilevelArguments)));
+    }
+
+    default SuggesterResult extractSuggestions(int route, LiteInvocation invocation, SuggestionIndex index) {
+        String[] rawArguments = invocation.arguments();
+        int end = Math.min(route + index.lengthMultilevel(), rawArguments.length);
+
+        if (route > end) {
+            return new SuggesterResult(index.toStack(), true);
+        }
+
+        List<String> multilevelArguments = Arrays.asList(rawArguments).subList(route, end);
+
+        if (multilevelArguments.isEmpty()) {
+            return new SuggesterResult(index.toStack(), true);
+        }
+
+        boolean isLast = end == rawArguments.length;
+        UniformSuggestionStack suggestionStack = index.filter(String.join(" ", multilevelArguments), isLast, this.suggestionLimit());
+
         return new SuggesterResult(suggestionStack, !suggestionStack.isEmpty() || this.validate(Suggestion.multilevel(multilevelArguments)));
     }
 
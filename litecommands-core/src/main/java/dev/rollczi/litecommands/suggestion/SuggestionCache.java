@@ -0,0 +1,149 @@
+package dev.rollczi.litecommands.suggestion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded least-recently-used cache of suggestion indexes.
+ * Expired entries are dropped lazily when they are looked up, and the eldest entry is dropped on insert when the cache is full.
+ */
+public class SuggestionCache {
+
+    private final long expireAfterNanos;
+    private final int maximumSize;
+    private final LongSupplier clock;
+    private final Map<Object, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    SuggestionCache(long expireAfterNanos, int maximumSize, LongSupplier clock) {
+        this.expireAfterNanos = expireAfterNanos;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (this.size() <= SuggestionCache.this.maximumSize) {
+                    return false;
+                }
+
+                SuggestionCache.this.evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public SuggestionIndex get(Object key, Supplier<SuggestionIndex> loader) {
+        long now = this.clock.getAsLong();
+        SuggestionIndex cached = this.lookup(key, now);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        SuggestionIndex index = loader.get();
+
+        this.put(key, index, now);
+        return index;
+    }
+
+    public CompletableFuture<SuggestionIndex> getAsync(Object key, Supplier<CompletableFuture<SuggestionIndex>> loader) {
+        long now = this.clock.getAsLong();
+        SuggestionIndex cached = this.lookup(key, now);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return loader.get().thenApply(index -> {
+            this.put(key, index, now);
+            return index;
+        });
+    }
+
+    private SuggestionIndex lookup(Object key, long now) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(key);
+
+            if (entry != null && now - entry.created >= this.expireAfterNanos) {
+                this.entries.remove(key);
+                this.evictions.increment();
+                entry = null;
+            }
+
+            if (entry == null) {
+                this.misses.increment();
+                return null;
+            }
+
+            this.hits.increment();
+            return entry.index;
+        }
+    }
+
+    private void put(Object key, SuggestionIndex index, long now) {
+        synchronized (this.entries) {
+            this.entries.put(key, new Entry(index, now));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    public static SuggestionCache create(long expireAfter, TimeUnit unit, int maximumSize) {
+        if (expireAfter <= 0) {
+            throw new IllegalArgumentException("Expire time must be greater than 0");
+        }
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than 0");
+        }
+
+        return new SuggestionCache(unit.toNanos(expireAfter), maximumSize, System::nanoTime);
+    }
+
+    public static SuggestionCache create(CachedSuggestions settings) {
+        return create(settings.expireAfter(), settings.unit(), settings.maximumSize());
+    }
+
+    private static final class Entry {
+
+        private final SuggestionIndex index;
+        private final long created;
+
+        private Entry(SuggestionIndex index, long created) {
+            this.index = index;
+            this.created = created;
+        }
+
+    }
+
+}
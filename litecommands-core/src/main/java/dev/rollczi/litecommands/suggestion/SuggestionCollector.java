@@ -0,0 +1,88 @@
+package dev.rollczi.litecommands.suggestion;
+
+import java.util.LinkedHashSet;
+
+/**
+ * Mutable, insertion-ordered accumulator of distinct suggestions.
+ * Suggestions are appended in place and frozen into a {@link SuggestionStack} only when {@link #build()} is called,
+ * further appends after that copy the collected suggestions once instead of changing the built stack.
+ */
+public final class SuggestionCollector {
+
+    private LinkedHashSet<Suggestion> suggestions;
+    private boolean shared = false;
+
+    private SuggestionCollector(LinkedHashSet<Suggestion> suggestions) {
+        this.suggestions = suggestions;
+    }
+
+    public boolean add(Suggestion suggestion) {
+        this.ensureOwned();
+        return this.suggestions.add(suggestion);
+    }
+
+    public SuggestionCollector addAll(Iterable<Suggestion> suggestions) {
+        this.ensureOwned();
+
+        for (Suggestion suggestion : suggestions) {
+            this.suggestions.add(suggestion);
+        }
+
+        return this;
+    }
+
+    /**
+     * Appends suggestions until the collector holds {@code limit} of them.
+     *
+     * @return the number of suggestions that were actually added
+     */
+    public int addAll(Iterable<Suggestion> suggestions, int limit) {
+        this.ensureOwned();
+        int added = 0;
+
+        for (Suggestion suggestion : suggestions) {
+            if (this.suggestions.size() >= limit) {
+                break;
+            }
+
+            if (this.suggestions.add(suggestion)) {
+                added++;
+            }
+        }
+
+        return added;
+    }
+
+    public boolean contains(Suggestion suggestion) {
+        return this.suggestions.contains(suggestion);
+    }
+
+    public int size() {
+        return this.suggestions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.suggestions.isEmpty();
+    }
+
+    public SuggestionStack build() {
+        this.shared = true;
+        return SuggestionStack.adopt(this.suggestions);
+    }
+
+    private void ensureOwned() {
+        if (this.shared) {
+            this.suggestions = new LinkedHashSet<>(this.suggestions);
+            this.shared = false;
+        }
+    }
+
+    public static SuggestionCollector create() {
+        return new SuggestionCollector(new LinkedHashSet<>());
+    }
+
+    public static SuggestionCollector of(SuggestionStack stack) {
+        return new SuggestionCollector(new LinkedHashSet<>(stack.suggestions));
+    }
+
+}
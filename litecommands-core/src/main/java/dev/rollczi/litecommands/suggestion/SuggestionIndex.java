@@ -0,0 +1,184 @@
+package dev.rollczi.litecommands.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable set of suggestions with a lookup sorted by their lower-cased multilevel form.
+ * A typed prefix is resolved by a binary search followed by a scan of the matching range,
+ * so suggestions that cannot match are never visited. Matches are returned in insertion order.
+ */
+public final class SuggestionIndex {
+
+    private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new int[0], new Suggestion[0], 0);
+
+    private final String[] keys;
+    private final int[] positions;
+    private final Suggestion[] suggestions;
+    private final int multilevelLength;
+
+    private SuggestionIndex(String[] keys, int[] positions, Suggestion[] suggestions, int multilevelLength) {
+        this.keys = keys;
+        this.positions = positions;
+        this.suggestions = suggestions;
+        this.multilevelLength = multilevelLength;
+    }
+
+    public int lengthMultilevel() {
+        return this.multilevelLength;
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    public boolean isEmpty() {
+        return this.keys.length == 0;
+    }
+
+    public List<Suggestion> startsWith(String prefix) {
+        return this.startsWith(prefix, Integer.MAX_VALUE);
+    }
+
+    public List<Suggestion> startsWith(String prefix, int limit) {
+        String key = toKey(prefix);
+        int from = this.lowerBound(key);
+        int to = from;
+
+        while (to < this.keys.length && this.keys[to].startsWith(key)) {
+            to++;
+        }
+
+        return this.collect(from, to, limit);
+    }
+
+    public List<Suggestion> equalsIgnoreCase(String text) {
+        return this.equalsIgnoreCase(text, Integer.MAX_VALUE);
+    }
+
+    public List<Suggestion> equalsIgnoreCase(String text, int limit) {
+        String key = toKey(text);
+        int from = this.lowerBound(key);
+        int to = from;
+
+        while (to < this.keys.length && this.keys[to].equals(key)) {
+            to++;
+        }
+
+        return this.collect(from, to, limit);
+    }
+
+    public UniformSuggestionStack filter(String multilevel, boolean prefix) {
+        return this.filter(multilevel, prefix, Integer.MAX_VALUE);
+    }
+
+    public UniformSuggestionStack filter(String multilevel, boolean prefix, int limit) {
+        List<Suggestion> matched = prefix
+                ? this.startsWith(multilevel, limit)
+                : this.equalsIgnoreCase(multilevel, limit);
+
+        return UniformSuggestionStack.of(matched, this.multilevelLength);
+    }
+
+    public UniformSuggestionStack toStack() {
+        return UniformSuggestionStack.of(Arrays.asList(this.suggestions), this.multilevelLength);
+    }
+
+    private List<Suggestion> collect(int from, int to, int limit) {
+        int[] matched = Arrays.copyOfRange(this.positions, from, to);
+        Arrays.sort(matched);
+
+        int size = Math.min(matched.length, limit);
+        List<Suggestion> result = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            result.add(this.suggestions[matched[index]]);
+        }
+
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = this.keys.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    public static SuggestionIndex empty() {
+        return EMPTY;
+    }
+
+    public static SuggestionIndex of(String... suggestions) {
+        return of(Suggestion.of(suggestions));
+    }
+
+    public static SuggestionIndex of(Collection<Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            return EMPTY;
+        }
+
+        Suggestion[] distinct = new LinkedHashSet<>(suggestions).toArray(new Suggestion[0]);
+        List<Entry> entries = new ArrayList<>(distinct.length);
+        int multilevelLength = -1;
+
+        for (int position = 0; position < distinct.length; position++) {
+            Suggestion suggestion = distinct[position];
+            int length = suggestion.lengthMultilevel();
+
+            if (multilevelLength != -1 && multilevelLength != length) {
+                throw new IllegalArgumentException("length of multi-level suggestions must be same!");
+            }
+
+            multilevelLength = length;
+            entries.add(new Entry(toKey(suggestion.multilevel()), position));
+        }
+
+        entries.sort(Comparator.comparing((Entry entry) -> entry.key).thenComparingInt(entry -> entry.position));
+
+        String[] keys = new String[entries.size()];
+        int[] positions = new int[entries.size()];
+
+        for (int index = 0; index < entries.size(); index++) {
+            Entry entry = entries.get(index);
+
+            keys[index] = entry.key;
+            positions[index] = entry.position;
+        }
+
+        return new SuggestionIndex(keys, positions, distinct, multilevelLength);
+    }
+
+    static String toKey(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final int position;
+
+        private Entry(String key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package dev.rollczi.litecommands.suggestion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of suggestions offered for the annotated parameter or for every parameter of the annotated argument class.
+ */
+@Target({ElementType.PARAMETER, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SuggestionLimit {
+
+    int value();
+
+}
@@ -6,15 +6,33 @@ import dev.rollczi.litecommands.command.LiteInvocation;
 public class SuggestionMerger {
 
     private final int argumentLevel;
-    private SuggestionStack root = SuggestionStack.empty();
+    private final int limit;
+    private final SuggestionCollector root = SuggestionCollector.create();
 
-    private SuggestionMerger(int argumentLevel) {
+    private SuggestionMerger(int argumentLevel, int limit) {
         this.argumentLevel = argumentLevel;
+        this.limit = limit;
+    }
+
+    public boolean isFull() {
+        return this.root.size() >= this.limit;
+    }
+
+    public int remaining() {
+        return Math.max(0, this.limit - this.root.size());
+    }
+
+    public int limit() {
+        return this.limit;
     }
 
     public SuggestionMerger append(int route, Suggestion suggestion) {
+        if (this.isFull()) {
+            return this;
+        }
+
         if (route == argumentLevel) {
-            this.root = root.with(suggestion);
+            this.root.add(suggestion);
             return this;
         }
 
@@ -27,10 +45,11 @@ public class SuggestionMerger {
     }
 
     public SuggestionMerger appendRoot(SuggestionStack suggestions) {
-        for (Suggestion suggestion : suggestions.suggestions) {
-            this.root = this.root.with(suggestion);
+        if (this.isFull() || suggestions.isEmpty()) {
+            return this;
         }
 
+        this.root.addAll(suggestions.suggestions, this.limit);
         return this;
     }
 
@@ -48,8 +67,7 @@ public class SuggestionMerger {
 
     public SuggestionMerger append(int route, UniformSuggestionStack suggestions) {
         if (route == argumentLevel) {
-            this.root = root.with(suggestions.suggestions());
-            return this;
+            return this.appendRoot(suggestions);
         }
 
         if (!suggestions.isMultilevel() || route > argumentLevel || route + (suggestions.lengthMultilevel() - 1) < argumentLevel) {
@@ -61,15 +79,23 @@ public class SuggestionMerger {
     }
 
     public SuggestionStack merge() {
-        return this.root;
+        return this.root.build();
     }
 
     public static SuggestionMerger empty(Invocation<?> context) {
-        return new SuggestionMerger(context.arguments().length);
+        return empty(context, Integer.MAX_VALUE);
+    }
+
+    public static SuggestionMerger empty(Invocation<?> context, int limit) {
+        return new SuggestionMerger(context.arguments().length, limit);
     }
 
     public static SuggestionMerger empty(LiteInvocation context) {
-        return new SuggestionMerger(context.arguments().length);
+        return empty(context, Integer.MAX_VALUE);
+    }
+
+    public static SuggestionMerger empty(LiteInvocation context, int limit) {
+        return new SuggestionMerger(context.arguments().length, limit);
     }
 
 }
@@ -6,8 +6,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,10 +17,14 @@ public class SuggestionStack {
 
     protected final LinkedHashSet<Suggestion> suggestions;
 
-    protected SuggestionStack(List<Suggestion> suggestions) {
+    protected SuggestionStack(Collection<Suggestion> suggestions) {
         this.suggestions = new LinkedHashSet<>(suggestions);
     }
 
+    private SuggestionStack(LinkedHashSet<Suggestion> suggestions) {
+        this.suggestions = suggestions;
+    }
+
     public Set<Suggestion> suggestions() {
         return Collections.unmodifiableSet(suggestions);
     }
@@ -40,13 +46,44 @@ public class SuggestionStack {
     }
 
     public SuggestionStack with(Iterable<Suggestion> suggestions) {
-        ArrayList<Suggestion> list = new ArrayList<>(this.suggestions);
+        return SuggestionCollector.of(this)
+                .addAll(suggestions)
+                .build();
+    }
+
+    public SuggestionStack limit(int limit) {
+        if (this.suggestions.size() <= limit) {
+            return this;
+        }
+
+        List<Suggestion> limited = new ArrayList<>(limit);
+
+        for (Suggestion suggestion : this.suggestions) {
+            if (limited.size() >= limit) {
+                break;
+            }
+
+            limited.add(suggestion);
+        }
+
+        return of(limited);
+    }
+
+    public SuggestionStack top(int limit, Comparator<Suggestion> comparator) {
+        PriorityQueue<Suggestion> worstFirst = new PriorityQueue<>(Math.min(limit, this.suggestions.size()) + 1, comparator.reversed());
 
-        for (Suggestion suggestion : suggestions) {
-            list.add(suggestion);
+        for (Suggestion suggestion : this.suggestions) {
+            worstFirst.add(suggestion);
+
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
         }
 
-        return of(list);
+        List<Suggestion> sorted = new ArrayList<>(worstFirst);
+        sorted.sort(comparator);
+
+        return of(sorted);
     }
 
     public static SuggestionStack empty() {
@@ -54,7 +91,14 @@ public class SuggestionStack {
     }
 
     public static SuggestionStack of(Collection<Suggestion> suggestions) {
-        return new SuggestionStack(new ArrayList<>(suggestions));
+        return new SuggestionStack(suggestions);
+    }
+
+    /**
+     * Wraps the given set without copying it, the caller must not modify the set afterwards.
+     */
+    static SuggestionStack adopt(LinkedHashSet<Suggestion> suggestions) {
+        return new SuggestionStack(suggestions);
     }
 
     public boolean isEmpty() {
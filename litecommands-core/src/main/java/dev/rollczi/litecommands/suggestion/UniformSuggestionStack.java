@@ -10,7 +10,7 @@ public final class UniformSuggestionStack extends SuggestionStack {
 
     private final int multilevelLength;
 
-    private UniformSuggestionStack(List<Suggestion> suggestions, int multilevelLength) {
+    private UniformSuggestionStack(Collection<Suggestion> suggestions, int multilevelLength) {
         super(suggestions);
         this.multilevelLength = multilevelLength;
     }
@@ -62,7 +62,7 @@ public final class UniformSuggestionStack extends SuggestionStack {
     }
 
     public static UniformSuggestionStack of(Collection<Suggestion> suggestions) {
-        return of(new ArrayList<>(suggestions), 0);
+        return of(suggestions, 0);
     }
 
     public static UniformSuggestionStack of(Collection<Suggestion> suggestions, int multilevelLength) {
@@ -85,7 +85,7 @@ public final class UniformSuggestionStack extends SuggestionStack {
             return empty();
         }
 
-        return new UniformSuggestionStack(new ArrayList<>(suggestions), last);
+        return new UniformSuggestionStack(suggestions, last);
     }
 
 }
@@ -0,0 +1,57 @@
+package dev.rollczi.litecommands.argument.basictype;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NumberParsersTest {
+
+    static final String[] INPUTS = {
+        "", " ", "-", "+", ".", "0", "-0", "+0", "1", "-1", "+1", "007", "12a", "a12", "1 ", " 1", "1-", "--1",
+        "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+        "2147483647", "2147483648", "-2147483648", "-2147483649",
+        "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "99999999999999999999999",
+        "1.5", "-1.5", ".5", "5.", "1..5", "1.5.", "1e5", "1E-5", "1e+5", "1e", "e5", "1.5e2.5", "1f", "1.5D", "1d5", "1ef",
+        "NaN", "-NaN", "Infinity", "-Infinity", "NaNf", "infinity", "0x1p3", "0x1.8p1", "0xg", "1e99999999999", " 1.5 ", "١٢"
+    };
+
+    @Test
+    void testIntegers() {
+        assertSameAsJdk(NumberParsers::parseByte, Byte::parseByte);
+        assertSameAsJdk(NumberParsers::parseShort, Short::parseShort);
+        assertSameAsJdk(NumberParsers::parseInt, Integer::parseInt);
+        assertSameAsJdk(NumberParsers::parseLong, Long::parseLong);
+    }
+
+    @Test
+    void testDecimals() {
+        assertSameAsJdk(NumberParsers::parseFloat, Float::parseFloat);
+        assertSameAsJdk(NumberParsers::parseDouble, Double::parseDouble);
+    }
+
+    @Test
+    void testBigNumbers() {
+        assertSameAsJdk(NumberParsers::parseBigInteger, BigInteger::new);
+        assertSameAsJdk(NumberParsers::parseBigDecimal, BigDecimal::new);
+    }
+
+    private static <T> void assertSameAsJdk(BasicTypeParser<T> parser, Function<String, T> jdk) {
+        for (String input : INPUTS) {
+            T expected;
+
+            try {
+                expected = jdk.apply(input);
+            }
+            catch (NumberFormatException exception) {
+                expected = null;
+            }
+
+            assertEquals(expected, parser.parse(input), "input: '" + input + "'");
+        }
+    }
+
+}
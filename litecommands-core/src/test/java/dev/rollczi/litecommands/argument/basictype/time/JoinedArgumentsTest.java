@@ -0,0 +1,33 @@
+package dev.rollczi.litecommands.argument.basictype.time;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JoinedArgumentsTest {
+
+    CharSequence joined = JoinedArguments.of("2023-01-01", "12:00", "Europe/Warsaw");
+
+    @Test
+    void testSubSequence() {
+        String expected = "2023-01-01 12:00 Europe/Warsaw";
+
+        for (int start = 0; start <= expected.length(); start++) {
+            for (int end = start; end <= expected.length(); end++) {
+                assertEquals(expected.substring(start, end), this.joined.subSequence(start, end).toString());
+            }
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> this.joined.subSequence(5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.joined.subSequence(0, expected.length() + 1));
+    }
+
+    @Test
+    void testToStringIsJoinedOnce() {
+        assertEquals("2023-01-01 12:00 Europe/Warsaw", this.joined.toString());
+        assertSame(this.joined.toString(), this.joined.toString());
+    }
+
+}
@@ -9,8 +9,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import panda.std.Result;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TemporalAccessorArgumentTest {
@@ -59,6 +68,40 @@ class TemporalAccessorArgumentTest {
         testParseAndSuggest("ThaiBuddhistDateArgument", "B.E. 2564-01-01");
     }
 
+    @Test
+    void testParseTokenized() {
+        LocalDateTimeArgument argument = new LocalDateTimeArgument();
+
+        Result<LocalDateTime, ?> result = argument.parseMultilevel(TestUtils.invocation(), "2021-01-01", "12:30:00");
+
+        assertEquals(LocalDateTime.of(2021, 1, 1, 12, 30), result.get());
+        assertTrue(argument.parseMultilevel(TestUtils.invocation(), "2021-01-01", "12:30").isErr());
+    }
+
+    @Test
+    void testSuggestionsAreCachedPerBucket() {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger generated = new AtomicInteger();
+        TemporalAccessorArgument<LocalDate> argument = new TemporalAccessorArgument<LocalDate>(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            LocalDate::from,
+            () -> Collections.singletonList(LocalDate.of(2021, 1, 1).plusDays(generated.getAndIncrement())),
+            Duration.ofSeconds(1),
+            clock::get
+        ) {};
+
+        List<Suggestion> first = argument.suggest(TestUtils.invocation());
+
+        clock.set(999);
+        assertSame(first, argument.suggest(TestUtils.invocation()));
+        assertEquals(1, generated.get());
+        assertTrue(argument.validate(TestUtils.invocation(), Suggestion.of("2021-01-01")));
+
+        clock.set(1000);
+        assertEquals(Suggestion.of("2021-01-02"), argument.suggest(TestUtils.invocation()).get(0));
+        assertEquals(2, generated.get());
+    }
+
     private void testParseAndSuggest(String className, String arguments) {
         TemporalAccessorArgument<?> temporalAccessorArgument = this.createTemporalAccessorArgument(className);
 
@@ -10,8 +10,9 @@ import org.junit.jupiter.api.Test;
 class EnumArgumentTest {
 
     TestPlatform platform = TestFactory.create(builder -> builder
-            .command(Command.class)
+            .command(Command.class, ModeCommand.class)
             .resultHandler(TestEnum.class, (testHandle, invocation, value) -> {})
+            .resultHandler(Mode.class, (testHandle, invocation, value) -> {})
     );
 
     @Route(name = "test")
@@ -27,6 +28,17 @@ class EnumArgumentTest {
 
     enum EmptyEnum {}
 
+    @Route(name = "mode")
+    static class ModeCommand {
+        @Execute(required = 1)
+        Mode execute(@Arg Mode mode) { return mode; }
+    }
+
+    enum Mode {
+        @EnumAlias({ "c", "gmc" }) CREATIVE,
+        @EnumAlias("s") SURVIVAL
+    }
+
     @Test
     void testA() {
         platform.execute("test", "A").assertResult(TestEnum.A);
@@ -48,6 +60,12 @@ class EnumArgumentTest {
         platform.suggest("test", "").assertWith("A", "B", "empty");
     }
 
+    @Test
+    void testSuggestionByPrefix() {
+        platform.suggest("test", "a").assertWith("A");
+        platform.suggest("test", "e").assertWith("empty");
+    }
+
     @Test
     void testSuggestionWithContent() {
         platform.suggest("test", "A").assertWith("A");
@@ -60,4 +78,22 @@ class EnumArgumentTest {
             .assertWith();
     }
 
+    @Test
+    void testIgnoreCase() {
+        platform.execute("test", "a").assertResult(TestEnum.A);
+        platform.execute("mode", "Creative").assertResult(Mode.CREATIVE);
+    }
+
+    @Test
+    void testAlias() {
+        platform.execute("mode", "gmc").assertResult(Mode.CREATIVE);
+        platform.execute("mode", "S").assertResult(Mode.SURVIVAL);
+        platform.execute("mode", "adventure").assertFail();
+    }
+
+    @Test
+    void testSuggestionWithoutAliases() {
+        platform.suggest("mode", "").assertWith("CREATIVE", "SURVIVAL");
+    }
+
 }
@@ -46,6 +46,51 @@ class FindResultTest {
         Assertions.assertTrue(findResult.isFound());
     }
 
+    @Test
+    void checkBranchesShareParentPath() {
+        CommandSection<TestHandle> lp = liteCommands.getCommandService().getSection("lp");
+        CommandSection<TestHandle> user = lp.childrenSection().get(0);
+        Invocation<TestHandle> invocation = new Invocation<>(new TestHandle(), testPlatform.createSender(), "lp", "lp", new String[0]);
+
+        FindResult<TestHandle> parent = FindResult.none(invocation).withSection(lp);
+        FindResult<TestHandle> left = parent.withSection(user);
+        FindResult<TestHandle> right = parent.withSection(lp);
+        FindResult<TestHandle> deeper = left.withSection(user);
+
+        Assertions.assertEquals(1, parent.getSections().size());
+        Assertions.assertSame(lp, parent.getSections().get(0));
+
+        Assertions.assertEquals(2, left.getSections().size());
+        Assertions.assertSame(lp, left.getSections().get(0));
+        Assertions.assertSame(user, left.getSections().get(1));
+
+        Assertions.assertEquals(2, right.getSections().size());
+        Assertions.assertSame(lp, right.getSections().get(1));
+
+        Assertions.assertTrue(left.isLongerThan(parent));
+        Assertions.assertFalse(parent.isLongerThan(left));
+        Assertions.assertFalse(left.isLongerThan(right));
+        Assertions.assertFalse(right.isLongerThan(left));
+        Assertions.assertTrue(deeper.isLongerThan(right));
+        Assertions.assertTrue(left.found().isLongerThan(deeper));
+        Assertions.assertFalse(deeper.failed().isLongerThan(left.invalid()));
+    }
+
+    @Test
+    void checkLongestBranchIsReported() {
+        FindResult<TestHandle> partial = testPlatform.find("lp", "user", "Rollczi", "parent", "unset");
+
+        Assertions.assertFalse(partial.isFound());
+        Assertions.assertEquals(2, partial.getSections().size());
+        Assertions.assertEquals(3, partial.getArguments().size());
+
+        FindResult<TestHandle> unknown = testPlatform.find("lp", "user", "Rollczi", "parent", "clear", "vip");
+
+        Assertions.assertFalse(unknown.isFound());
+        Assertions.assertEquals(2, unknown.getSections().size());
+        Assertions.assertEquals(2, unknown.getArguments().size());
+    }
+
     @Route(name = "lp user", aliases = "luckperms user")
     private static class TestCommandLuckPermsExample {
         @Execute void set(@Arg String user, @Block("parent set") @Arg String rank) {}
@@ -1,12 +1,29 @@
 package dev.rollczi.litecommands.command.async;
 
+import dev.rollczi.litecommands.LiteCommands;
 import dev.rollczi.litecommands.command.execute.Execute;
 import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.implementation.LiteFactory;
 import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestHandle;
 import dev.rollczi.litecommands.test.TestPlatform;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncAnnotationTest {
 
@@ -30,4 +47,131 @@ class AsyncAnnotationTest {
             .assertResultIs(CompletableFuture.class);
     }
 
+    @Test
+    void testCustomScheduler() {
+        AtomicInteger submitted = new AtomicInteger();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .resultHandler(Object.class, (testHandle, invocation, value) -> {})
+                .asyncScheduler(AsyncExecutionScheduler.of(runnable -> {
+                    submitted.incrementAndGet();
+                    runnable.run();
+                }))
+        );
+
+        CompletableFuture<?> future = platform.execute("command", "async")
+                .assertSuccess()
+                .assertResultIs(CompletableFuture.class);
+
+        assertEquals(1, submitted.get());
+        assertEquals("async", future.join());
+    }
+
+    @Test
+    void testDefaultSchedulerUsesNamedThreads() {
+        DefaultAsyncExecutionScheduler scheduler = DefaultAsyncExecutionScheduler.create(2, 8);
+
+        String threadName = scheduler.supply(() -> Thread.currentThread().getName()).join();
+
+        assertTrue(threadName.startsWith(DefaultAsyncExecutionScheduler.DEFAULT_THREAD_NAME));
+        assertEquals(0L, scheduler.getRejectedCount());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testRejectedTaskIsNotExecutedOnCallingThread() {
+        DefaultAsyncExecutionScheduler scheduler = DefaultAsyncExecutionScheduler.create(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean executedOnCaller = new AtomicBoolean();
+        Thread caller = Thread.currentThread();
+
+        CompletableFuture<Boolean> running = scheduler.supply(() -> await(release));
+        CompletableFuture<Boolean> queued = scheduler.supply(() -> await(release));
+        CompletableFuture<Boolean> rejected = scheduler.supply(() -> {
+            executedOnCaller.set(Thread.currentThread() == caller);
+            return true;
+        });
+
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+
+        assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        assertFalse(executedOnCaller.get());
+        assertEquals(1L, scheduler.getRejectedCount());
+
+        release.countDown();
+
+        assertTrue(running.join());
+        assertTrue(queued.join());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testUnregisterShutsDownScheduler() {
+        AtomicBoolean shutdown = new AtomicBoolean();
+        TestPlatform platform = new TestPlatform();
+        LiteCommands<TestHandle> liteCommands = LiteFactory.builder(TestHandle.class)
+                .platform(platform)
+                .command(Command.class)
+                .asyncScheduler(new AsyncExecutionScheduler() {
+                    @Override
+                    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+                        return CompletableFuture.completedFuture(supplier.get());
+                    }
+
+                    @Override
+                    public void shutdown() {
+                        shutdown.set(true);
+                    }
+                })
+                .register();
+
+        liteCommands.unregister();
+
+        assertTrue(shutdown.get());
+        assertThrows(IllegalArgumentException.class, () -> platform.find("command", "async"));
+    }
+
+    @Test
+    void testSchedulerDoesNotShutDownProvidedExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AsyncExecutionScheduler scheduler = AsyncExecutionScheduler.of(executor);
+
+        scheduler.shutdown();
+
+        assertFalse(executor.isShutdown());
+        assertEquals("async", scheduler.supply(() -> "async").join());
+
+        executor.shutdown();
+    }
+
+    @Test
+    void testVirtualThreadsScheduler() {
+        AsyncExecutionScheduler scheduler = AsyncExecutionScheduler.virtualThreads();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .resultHandler(Object.class, (testHandle, invocation, value) -> {})
+                .asyncScheduler(scheduler)
+        );
+
+        CompletableFuture<?> future = platform.execute("command", "async")
+                .assertSuccess()
+                .assertResultIs(CompletableFuture.class);
+
+        assertEquals("async", future.join());
+        assertEquals(AsyncExecutionScheduler.isVirtualThreadsSupported(), !(scheduler instanceof DefaultAsyncExecutionScheduler));
+
+        scheduler.shutdown();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
 }
@@ -0,0 +1,187 @@
+package dev.rollczi.litecommands.command.interceptor;
+
+import dev.rollczi.litecommands.command.async.Async;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.execute.ExecuteResult;
+import dev.rollczi.litecommands.command.metrics.CommandMetrics;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.meta.CommandMeta;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecuteInterceptorTest {
+
+    @Route(name = "eco", aliases = "economy")
+    static class Command {
+        @Execute(route = "give") String give() { return "give"; }
+        @Execute(route = "top") String top() { return "top"; }
+        @Execute(route = "reset") @Async String reset() { return "reset"; }
+        @Execute(route = "balance") Integer balance() { return 10; }
+    }
+
+    @Test
+    void testInterceptTargetedRouteOnly() {
+        List<String> routes = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor("eco give", chain -> {
+                    routes.add(chain.getRoute());
+                    return chain.proceed();
+                })
+        );
+
+        platform.execute("eco", "give").assertResult("give");
+        platform.execute("eco", "top").assertResult("top");
+
+        assertCollection(list("eco give"), routes);
+    }
+
+    @Test
+    void testInterceptByAliasAndSubRoutes() {
+        List<String> routes = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor("ECONOMY", chain -> {
+                    routes.add(chain.getRoute());
+                    return chain.proceed();
+                })
+        );
+
+        platform.execute("eco", "give").assertResult("give");
+        platform.execute("eco", "top").assertResult("top");
+
+        assertCollection(list("eco give", "eco top"), routes);
+    }
+
+    @Test
+    void testInterceptorsRunInRegistrationOrder() {
+        List<String> calls = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor(chain -> {
+                    calls.add("first");
+                    ExecuteResult result = chain.proceed();
+                    calls.add("first after");
+                    return result;
+                })
+                .interceptor("eco", chain -> {
+                    calls.add("second");
+                    return chain.proceed();
+                })
+        );
+
+        platform.execute("eco", "top").assertResult("top");
+
+        assertCollection(list("first", "second", "first after"), calls);
+    }
+
+    @Test
+    void testInterceptorCanStopExecution() {
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor("eco give", chain -> ExecuteResult.success(chain.getFindResult(), "cooldown"))
+        );
+
+        platform.execute("eco", "give").assertResult("cooldown");
+        platform.execute("eco", "top").assertResult("top");
+    }
+
+    @Test
+    void testInterceptorSeesMeta() {
+        List<Boolean> asynchronous = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor("eco reset", chain -> {
+                    asynchronous.add(chain.getMeta().get(CommandMeta.ASYNCHRONOUS));
+                    return chain.proceed();
+                })
+        );
+
+        platform.execute("eco", "reset").assertSuccess();
+
+        assertCollection(list(true), asynchronous);
+    }
+
+    @Test
+    void testInterceptWithMetrics() {
+        CommandMetrics metrics = CommandMetrics.create();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .commandMetrics(metrics)
+                .interceptor("eco give", chain -> ExecuteResult.success(chain.getFindResult(), "cooldown"))
+        );
+
+        platform.execute("eco", "give").assertResult("cooldown");
+
+        assertEquals(1, metrics.getRoute("eco give").get().executions());
+    }
+
+    @Test
+    void testResultIsHandledInsideInterceptor() {
+        List<String> calls = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .resultHandler(Integer.class, (handle, invocation, value) -> calls.add("handle " + value))
+                .interceptor(chain -> {
+                    calls.add("before");
+                    ExecuteResult result = chain.proceed();
+                    calls.add("after");
+                    return result;
+                })
+        );
+
+        platform.execute("eco", "balance").assertResult(10);
+
+        assertEquals(list("before", "handle 10", "after"), calls);
+    }
+
+    @Test
+    void testStoppedExecutionIsHandledOnce() {
+        List<Object> handled = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .resultHandler(Integer.class, (handle, invocation, value) -> handled.add(value))
+                .interceptor("eco balance", chain -> ExecuteResult.success(chain.getFindResult(), 0))
+        );
+
+        platform.execute("eco", "balance").assertResult(0);
+
+        assertEquals(list(0), handled);
+    }
+
+    @Test
+    void testChainIsReusedBetweenExecutions() {
+        List<ExecuteChain<?>> chains = new ArrayList<>();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .interceptor(chain -> {
+                    chains.add(chain);
+                    return chain.proceed();
+                })
+        );
+
+        platform.execute("eco", "give").assertResult("give");
+        platform.execute("eco", "top").assertResult("top");
+
+        assertEquals(2, chains.size());
+        assertSame(chains.get(0), chains.get(1));
+    }
+
+    @Test
+    void testEmptyRouteIsRejected() {
+        ExecuteInterceptorRegistry<Void> registry = new ExecuteInterceptorRegistry<>();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(" ", ExecuteChain::proceed));
+    }
+
+}
@@ -0,0 +1,91 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandMetricsTest {
+
+    CommandMetrics metrics = CommandMetrics.create();
+    TestPlatform platform = TestFactory.create(builder -> builder
+            .command(Command.class)
+            .commandMetrics(this.metrics)
+    );
+
+    @Route(name = "eco")
+    static class Command {
+        @Execute(route = "give", required = 1) String give(@Arg int amount) { return "give"; }
+        @Execute(route = "top") String top() { return "top"; }
+    }
+
+    @Test
+    void testRecordExecutionsPerRoute() {
+        platform.execute("eco", "give", "10").assertSuccess();
+        platform.execute("eco", "give", "20").assertSuccess();
+        platform.execute("eco", "top").assertSuccess();
+
+        RouteMetrics give = metrics.getRoute("eco give").get();
+
+        assertEquals(2, give.executions());
+        assertEquals(0, give.failures());
+        assertEquals(2, give.parseLatency().count());
+        assertEquals(2, give.invokeLatency().count());
+        assertEquals(2, give.handleLatency().count());
+
+        assertEquals(1, metrics.getRoute("eco top").get().executions());
+    }
+
+    @Test
+    void testRecordFailures() {
+        platform.execute("eco", "give", "ten").assertFail();
+        platform.execute("eco", "unknown").assertFail();
+
+        RouteMetrics give = metrics.getRoute("eco give").get();
+        RouteMetrics eco = metrics.getRoute("eco").get();
+
+        assertEquals(1, give.executions());
+        assertEquals(1, give.failures());
+        assertEquals(0, give.invalidUsages());
+        assertEquals(1, eco.failures());
+    }
+
+    @Test
+    void testRecordSuggestions() {
+        platform.suggestAsync("eco", "").join();
+
+        RouteMetrics eco = metrics.getRoute("eco").get();
+
+        assertEquals(1, eco.suggestions());
+        assertEquals(1, eco.suggestionLatency().count());
+    }
+
+    @Test
+    void testRecordSuggestionsPerRoute() {
+        platform.suggestAsync("eco", "give", "").join();
+        platform.suggestAsync("eco", "GIVE", "1").join();
+        platform.suggestAsync("eco", "gi").join();
+
+        assertEquals(2, metrics.getRoute("eco give").get().suggestions());
+        assertEquals(1, metrics.getRoute("eco").get().suggestions());
+    }
+
+    @Test
+    void testDisabledMetricsRecordNothing() {
+        CommandMetrics disabled = CommandMetrics.disabled();
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .commandMetrics(disabled)
+        );
+
+        platform.execute("eco", "top").assertSuccess();
+
+        assertTrue(disabled.getRoutes().isEmpty());
+    }
+
+}
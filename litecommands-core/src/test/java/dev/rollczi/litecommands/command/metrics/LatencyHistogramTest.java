@@ -0,0 +1,50 @@
+package dev.rollczi.litecommands.command.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketContainsValue() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+
+            assertTrue(highest >= value, "value " + value);
+            assertTrue(highest <= value + value / 8, "value " + value);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(100_000, histogram.maxNanos());
+        assertEquals(50_500L, (long) histogram.meanNanos());
+
+        long median = histogram.percentileNanos(50);
+        assertTrue(median >= 50_000 && median <= 50_000 * 9 / 8, "median " + median);
+        assertEquals(100_000, histogram.percentileNanos(100));
+    }
+
+    @Test
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentileNanos(99));
+
+        histogram.record(10);
+        histogram.reset();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileNanos(99));
+    }
+
+}
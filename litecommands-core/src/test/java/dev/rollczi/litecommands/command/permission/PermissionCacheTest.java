@@ -0,0 +1,121 @@
+package dev.rollczi.litecommands.command.permission;
+
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.platform.LiteSender;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestHandle;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermissionCacheTest {
+
+    static class CountingSender implements LiteSender {
+
+        final TestHandle handle = new TestHandle();
+        boolean granted = true;
+        int checks = 0;
+
+        @Override
+        public boolean hasPermission(String permission) {
+            this.checks++;
+            return this.granted;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public Object getHandle() {
+            return this.handle;
+        }
+
+    }
+
+    @Route(name = "free")
+    static class FreeCommand {
+        @Execute LiteSender execute(LiteSender sender) { return sender; }
+    }
+
+    @Route(name = "guarded")
+    static class GuardedCommand {
+        @Execute LiteSender execute(LiteSender sender) { return sender; }
+        @Permission("guarded.admin") @Execute(route = "admin") void admin() {}
+    }
+
+    CountingSender sender = new CountingSender();
+    AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testPerInvocationCache() {
+        PermissionCache cache = PermissionCache.perInvocation();
+        LiteSender invocation = cache.wrap(sender);
+
+        assertTrue(invocation.hasPermission("eco.give"));
+        assertTrue(invocation.hasPermission("eco.give"));
+        assertEquals(1, sender.checks);
+        assertSame(invocation, cache.wrap(invocation));
+
+        cache.wrap(sender).hasPermission("eco.give");
+        assertEquals(2, sender.checks);
+    }
+
+    @Test
+    void testSenderIsWrappedOnlyWhenCommandHasPermissions() {
+        TestPlatform platform = TestFactory.withCommandsUniversalHandler(FreeCommand.class, GuardedCommand.class);
+
+        assertFalse(platform.execute("free").assertSuccess().assertResultIs(LiteSender.class) instanceof CachedPermissionSender);
+        assertTrue(platform.execute("guarded").assertSuccess().assertResultIs(LiteSender.class) instanceof CachedPermissionSender);
+    }
+
+    @Test
+    void testWrappedSenderKeepsIdentifier() {
+        assertEquals(sender.getIdentifier(), PermissionCache.perInvocation().wrap(sender).getIdentifier());
+    }
+
+    @Test
+    void testWindowIsSharedUntilExpired() {
+        PermissionCache cache = new PermissionCache(PermissionCache.TICK, clock::get);
+
+        cache.wrap(sender).hasPermission("eco.give");
+        cache.wrap(sender).hasPermission("eco.give");
+        assertEquals(1, sender.checks);
+
+        clock.addAndGet(Duration.ofMillis(50).toNanos());
+
+        cache.wrap(sender).hasPermission("eco.give");
+        assertEquals(2, sender.checks);
+    }
+
+    @Test
+    void testInvalidate() {
+        PermissionCache cache = new PermissionCache(Duration.ofMinutes(1), clock::get);
+        LiteSender invocation = cache.wrap(sender);
+
+        assertTrue(invocation.hasPermission("eco.give"));
+
+        sender.granted = false;
+        cache.invalidate(sender.handle);
+
+        assertFalse(invocation.hasPermission("eco.give"));
+        assertFalse(cache.wrap(sender).hasPermission("eco.give"));
+        assertFalse(cache.wrap(sender).hasPermission("eco.give"));
+        assertEquals(3, sender.checks);
+
+        sender.granted = true;
+        cache.invalidateAll();
+
+        assertTrue(cache.wrap(sender).hasPermission("eco.give"));
+        assertEquals(4, sender.checks);
+    }
+
+}
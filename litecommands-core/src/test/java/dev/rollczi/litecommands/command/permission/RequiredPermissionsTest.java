@@ -6,13 +6,18 @@ import dev.rollczi.litecommands.test.TestPlatform;
 import dev.rollczi.litecommands.command.execute.Execute;
 import dev.rollczi.litecommands.command.section.CommandSection;
 import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.meta.CommandMeta;
+import dev.rollczi.litecommands.platform.LiteSender;
+import dev.rollczi.litecommands.test.TestSender;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RequiredPermissionsTest {
@@ -59,6 +64,35 @@ class RequiredPermissionsTest {
         assertEquals("dev.rollczi.litecommands.execute.siema", perm.get(1));
     }
 
+    @Test
+    void testEffectivePermissionsExcludeAndRefresh() {
+        CommandMeta meta = CommandMeta.create()
+                .addPermission("eco.give", "eco.take")
+                .addExcludedPermission("eco.take");
+
+        assertArrayEquals(new String[] { "eco.give" }, meta.getEffectivePermissions());
+        assertSame(meta.getEffectivePermissions(), meta.getEffectivePermissions());
+
+        meta.removeExcludedPermission("eco.take");
+
+        assertEquals(2, meta.getEffectivePermissions().length);
+    }
+
+    @Test
+    void testAllGrantedReturnsSharedEmpty() {
+        CommandMeta meta = CommandMeta.create().addPermission("eco.give");
+        LiteSender granted = new TestSender(new TestHandle()) {
+            @Override
+            public boolean hasPermission(String permission) {
+                return true;
+            }
+        };
+
+        assertSame(RequiredPermissions.empty(), RequiredPermissions.of(meta, granted));
+        assertTrue(RequiredPermissions.hasAll(meta, granted));
+        assertFalse(RequiredPermissions.hasAll(meta, platform.createSender()));
+    }
+
     @Route(name = "test")
     @Permission("dev.rollczi.litecommands")
     static class PermissionsCommand {
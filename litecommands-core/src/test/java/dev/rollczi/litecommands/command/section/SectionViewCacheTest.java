@@ -0,0 +1,158 @@
+package dev.rollczi.litecommands.command.section;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.command.execute.ArgumentExecutor;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.permission.Permission;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.platform.LiteSender;
+import dev.rollczi.litecommands.suggestion.Suggest;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestHandle;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SectionViewCacheTest {
+
+    static class PermissibleSender implements LiteSender {
+
+        final TestHandle handle = new TestHandle();
+        boolean admin = false;
+        int checks = 0;
+
+        @Override
+        public boolean hasPermission(String permission) {
+            this.checks++;
+            return this.admin;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public Object getHandle() {
+            return this.handle;
+        }
+
+    }
+
+    @Route(name = "admin")
+    @Permission("litecommands.admin")
+    static class AdminCommand {
+        @Execute(route = "reload") void reload() {}
+        @Execute(route = "debug") void debug() {}
+    }
+
+    @Route(name = "eco")
+    static class EconomyCommand {
+        @Execute(route = "balance") void balance() {}
+    }
+
+    @Route(name = "mail")
+    static class MailCommand {
+        @Execute(route = "send") void send(@Arg @Suggest("Rollczi") String player) {}
+        @Permission("mail.spy") @Execute(route = "spy") void spy(@Arg @Suggest("Notch") String player) {}
+    }
+
+    TestPlatform platform = TestFactory.withCommands(AdminCommand.class, EconomyCommand.class, MailCommand.class);
+    PermissibleSender sender = new PermissibleSender();
+    AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testPrunedViewSkipsHiddenSubtree() {
+        CommandSection<TestHandle> admin = platform.getSection("admin");
+        SectionView<TestHandle> view = SectionView.pruned(admin, sender);
+
+        assertFalse(view.isVisible(admin));
+        assertEquals(1, sender.checks);
+
+        for (CommandSection<TestHandle> child : admin.childrenSection()) {
+            assertFalse(view.isVisible(child));
+        }
+    }
+
+    @Test
+    void testViewIsCachedUntilInvalidated() {
+        SectionViewCache<TestHandle> cache = new SectionViewCache<>(Duration.ofMinutes(1), clock::get);
+        CommandSection<TestHandle> admin = platform.getSection("admin");
+        CommandSection<TestHandle> eco = platform.getSection("eco");
+
+        assertFalse(cache.isVisible(admin, sender));
+        assertTrue(cache.isVisible(eco, sender));
+
+        sender.admin = true;
+
+        assertFalse(cache.isVisible(admin, sender));
+        assertEquals(1, sender.checks);
+
+        cache.invalidate(sender.handle);
+
+        assertTrue(cache.isVisible(admin, sender));
+
+        int checks = sender.checks;
+
+        assertTrue(cache.isVisible(admin, sender));
+        assertEquals(checks, sender.checks);
+    }
+
+    @Test
+    void testViewExpires() {
+        SectionViewCache<TestHandle> cache = new SectionViewCache<>(Duration.ofSeconds(1), clock::get);
+        CommandSection<TestHandle> admin = platform.getSection("admin");
+
+        assertFalse(cache.isVisible(admin, sender));
+
+        sender.admin = true;
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertTrue(cache.isVisible(admin, sender));
+    }
+
+    @Test
+    void testPrunedViewFiltersExecutorsByPermission() {
+        CommandSection<TestHandle> mail = platform.getSection("mail");
+        ArgumentExecutor<TestHandle> send = executor(mail, "send");
+        ArgumentExecutor<TestHandle> spy = executor(mail, "spy");
+
+        SectionView<TestHandle> view = SectionView.pruned(mail, sender);
+
+        assertTrue(view.isVisible(send));
+        assertFalse(view.isVisible(spy));
+
+        sender.admin = true;
+
+        assertTrue(SectionView.pruned(mail, sender).isVisible(spy));
+        assertTrue(SectionView.<TestHandle>live(sender).isVisible(spy));
+    }
+
+    @Test
+    void testHiddenExecutorHasNoSuggestions() {
+        assertTrue(platform.suggestion("mail", "send", "").contains("Rollczi"));
+        assertTrue(platform.suggestion("mail", "spy", "").isEmpty());
+    }
+
+    @Test
+    void testHiddenSectionHasNoSuggestions() {
+        assertTrue(platform.suggestion("admin", "").isEmpty());
+        assertEquals(1, platform.suggestion("eco", "").size());
+    }
+
+    private static ArgumentExecutor<TestHandle> executor(CommandSection<TestHandle> root, String name) {
+        for (CommandSection<TestHandle> child : root.childrenSection()) {
+            if (child.getName().equals(name)) {
+                return child.executors().get(0);
+            }
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+
+}
@@ -0,0 +1,190 @@
+package dev.rollczi.litecommands.command.watchdog;
+
+import dev.rollczi.litecommands.LiteCommands;
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.implementation.LiteFactory;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestHandle;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionWatchdogTest {
+
+    static final Duration BUDGET = Duration.ofMillis(50);
+    static final AtomicLong CLOCK = new AtomicLong();
+
+    List<SlowExecution> reports = new ArrayList<>();
+
+    @Route(name = "world")
+    static class Command {
+        @Execute(route = "save", required = 0) String save() {
+            CLOCK.addAndGet(Duration.ofMillis(200).toNanos());
+            return "saved";
+        }
+
+        @Execute(route = "save", required = 1) String save(@Arg String world) {
+            CLOCK.addAndGet(Duration.ofMillis(200).toNanos());
+            return "saved " + world;
+        }
+
+        @Execute(route = "list") String list() {
+            return "list";
+        }
+    }
+
+    ExecutionWatchdog watchdog(int reportAfter, int promoteAfter) {
+        return new ExecutionWatchdog(BUDGET, this.reports::add, reportAfter, promoteAfter, CLOCK::get, false);
+    }
+
+    @Test
+    void testExecutionWithinBudget() {
+        ExecutionWatchdog watchdog = this.watchdog(1, 0);
+        ExecutionWatchdog.Watch watch = watchdog.start("world list", new String[] { "list" });
+
+        CLOCK.addAndGet(BUDGET.toNanos());
+
+        assertFalse(watchdog.finish(watch));
+        assertTrue(this.reports.isEmpty());
+        assertEquals(0, watchdog.getViolations("world list"));
+    }
+
+    @Test
+    void testReportSlowExecution() {
+        ExecutionWatchdog watchdog = this.watchdog(1, 0);
+        ExecutionWatchdog.Watch watch = watchdog.start("world save", new String[] { "save", "all" });
+
+        CLOCK.addAndGet(Duration.ofMillis(120).toNanos());
+        watchdog.finish(watch);
+
+        assertEquals(1, this.reports.size());
+
+        SlowExecution execution = this.reports.get(0);
+
+        assertEquals("world save", execution.getRoute());
+        assertCollection(list("save", "all"), execution.getArguments());
+        assertEquals(Duration.ofMillis(120), execution.getElapsed());
+        assertEquals(BUDGET, execution.getBudget());
+        assertEquals(1, execution.getViolations());
+        assertEquals(0, execution.getStackSample().length);
+        assertFalse(execution.isPromoted());
+    }
+
+    @Test
+    void testSampleStackOfRunningExecution() {
+        ExecutionWatchdog watchdog = this.watchdog(1, 0);
+        ExecutionWatchdog.Watch watch = watchdog.start("world save", new String[0]);
+
+        watchdog.sample();
+        CLOCK.addAndGet(Duration.ofMillis(60).toNanos());
+        watchdog.sample();
+        watchdog.finish(watch);
+
+        StackTraceElement[] sample = this.reports.get(0).getStackSample();
+
+        assertTrue(sample.length > 0);
+        assertEquals(Thread.currentThread().getName(), this.reports.get(0).getThreadName());
+    }
+
+    @Test
+    void testReportRepeatedOffendersOnly() {
+        ExecutionWatchdog watchdog = this.watchdog(3, 0);
+
+        for (int count = 0; count < 4; count++) {
+            ExecutionWatchdog.Watch watch = watchdog.start("world save", new String[0]);
+
+            CLOCK.addAndGet(Duration.ofMillis(60).toNanos());
+            watchdog.finish(watch);
+        }
+
+        assertEquals(4, watchdog.getViolations("world save"));
+        assertEquals(2, this.reports.size());
+        assertEquals(3, this.reports.get(0).getViolations());
+    }
+
+    @Test
+    void testPromoteRouteToAsync() {
+        ExecutionWatchdog watchdog = this.watchdog(1, 2);
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .executionWatchdog(watchdog)
+        );
+
+        platform.execute("world", "save").assertResult("saved");
+        platform.execute("world", "save").assertResult("saved");
+
+        CompletableFuture<?> future = platform.execute("world", "save").assertResultIs(CompletableFuture.class);
+
+        assertEquals("saved", future.join());
+        assertEquals(2, this.reports.size());
+        assertFalse(this.reports.get(0).isPromoted());
+        assertTrue(this.reports.get(1).isPromoted());
+        assertEquals("world save", this.reports.get(1).getRoute());
+
+        platform.execute("world", "list").assertResult("list");
+        assertEquals(0, watchdog.getViolations("world list"));
+    }
+
+    @Test
+    void testPromoteEveryExecutorOfRoute() {
+        ExecutionWatchdog watchdog = this.watchdog(1, 2);
+        TestPlatform platform = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .executionWatchdog(watchdog)
+        );
+
+        platform.execute("world", "save").assertResult("saved");
+        platform.execute("world", "save", "nether").assertResult("saved nether");
+
+        assertEquals(2, watchdog.getViolations("world save"));
+        assertTrue(watchdog.isPromoted("world save"));
+        assertFalse(watchdog.isPromoted("world list"));
+
+        CompletableFuture<?> first = platform.execute("world", "save").assertResultIs(CompletableFuture.class);
+        CompletableFuture<?> second = platform.execute("world", "save", "end").assertResultIs(CompletableFuture.class);
+
+        assertEquals("saved", first.join());
+        assertEquals("saved end", second.join());
+    }
+
+    @Test
+    void testUnregisterShutsDownSampler() {
+        ExecutionWatchdog watchdog = new ExecutionWatchdog(BUDGET, this.reports::add, 1, 0, CLOCK::get, true);
+        TestPlatform platform = new TestPlatform();
+        LiteCommands<TestHandle> liteCommands = LiteFactory.builder(TestHandle.class)
+                .platform(platform)
+                .command(Command.class)
+                .resultHandler(String.class, (handle, invocation, value) -> {})
+                .executionWatchdog(watchdog)
+                .register();
+
+        platform.execute("world", "list").assertResult("list");
+        assertTrue(watchdog.isSampling());
+
+        liteCommands.unregister();
+
+        assertFalse(watchdog.isSampling());
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutionWatchdog.create(Duration.ZERO, execution -> {}));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionWatchdog.create(BUDGET, execution -> {}, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionWatchdog.create(BUDGET, execution -> {}, 1, -1));
+    }
+
+}
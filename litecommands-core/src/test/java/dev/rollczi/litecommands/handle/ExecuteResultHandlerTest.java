@@ -0,0 +1,85 @@
+package dev.rollczi.litecommands.handle;
+
+import dev.rollczi.litecommands.command.LiteInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.TestUtils.invocation;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecuteResultHandlerTest {
+
+    interface Message {
+    }
+
+    static class TextMessage implements Message, CharSequence {
+
+        @Override
+        public int length() {
+            return 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return 0;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return this;
+        }
+
+    }
+
+    static class ColoredTextMessage extends TextMessage {
+    }
+
+    static class Money {
+    }
+
+    ExecuteResultHandler<Object> resultHandler = new ExecuteResultHandler<>();
+    List<String> handled = new ArrayList<>();
+    LiteInvocation invocation = invocation("test");
+
+    @Test
+    void testMostSpecificHandlerWins() {
+        resultHandler.registerHandler(Object.class, (sender, invocation, object) -> handled.add("object"));
+        resultHandler.registerHandler(CharSequence.class, (sender, invocation, object) -> handled.add("sequence"));
+        resultHandler.registerHandler(TextMessage.class, (sender, invocation, object) -> handled.add("text"));
+
+        resultHandler.handleResult("sender", invocation, new ColoredTextMessage());
+        resultHandler.handleResult("sender", invocation, new StringBuilder());
+        resultHandler.handleResult("sender", invocation, new Money());
+
+        assertEquals(list("text", "sequence", "object"), handled);
+    }
+
+    @Test
+    void testCacheIsInvalidatedOnRegister() {
+        resultHandler.registerHandler(Message.class, (sender, invocation, object) -> handled.add("message"));
+        resultHandler.handleResult("sender", invocation, new ColoredTextMessage());
+
+        resultHandler.registerHandler(ColoredTextMessage.class, (sender, invocation, object) -> handled.add("colored"));
+        resultHandler.handleResult("sender", invocation, new ColoredTextMessage());
+
+        assertEquals(list("message", "colored"), handled);
+    }
+
+    @Test
+    void testRedirector() {
+        assertThrows(IllegalStateException.class, () -> resultHandler.handleResult("sender", invocation, new Money()));
+
+        resultHandler.registerRedirector(Money.class, String.class, money -> "10$");
+        assertThrows(IllegalStateException.class, () -> resultHandler.handleResult("sender", invocation, new Money()));
+
+        resultHandler.registerHandler(String.class, (sender, invocation, text) -> handled.add(text));
+        resultHandler.handleResult("sender", invocation, new Money());
+
+        assertEquals(list("10$"), handled);
+    }
+
+}
@@ -0,0 +1,75 @@
+package dev.rollczi.litecommands.implementation;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.argument.Argument;
+import dev.rollczi.litecommands.argument.basictype.IntegerArgument;
+import dev.rollczi.litecommands.argument.basictype.LongArgument;
+import dev.rollczi.litecommands.argument.basictype.StringArgument;
+import dev.rollczi.litecommands.argument.simple.SimpleMultilevelArgument;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Parameter;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArgumentsRegistryTest {
+
+    static class Command {
+        void execute(@Arg String text, @Arg Number number, @Arg Object object) {}
+    }
+
+    ArgumentsRegistry<Void> registry = new ArgumentsRegistry<>();
+
+    Argument<Void, Arg> string = new SimpleMultilevelArgument<>(new StringArgument());
+    Argument<Void, Arg> integer = new SimpleMultilevelArgument<>(new IntegerArgument());
+    Argument<Void, Arg> longArgument = new SimpleMultilevelArgument<>(new LongArgument());
+
+    @Test
+    void testExactType() {
+        registry.register(Arg.class, String.class, string);
+        registry.register(Arg.class, Integer.class, integer);
+
+        assertSame(string, registry.getArgument(Arg.class, parameter(0)).get());
+        assertTrue(registry.getArgument(Arg.class, parameter(0), "named").isEmpty());
+    }
+
+    @Test
+    void testAssignableFallbackIsCachedAndRebuilt() {
+        registry.register(Arg.class, Integer.class, integer);
+
+        assertSame(integer, registry.getArgument(Arg.class, parameter(1)).get());
+        assertSame(integer, registry.getArgument(Arg.class, parameter(1)).get());
+
+        registry.register(Arg.class, Number.class, longArgument);
+
+        assertSame(longArgument, registry.getArgument(Arg.class, parameter(1)).get());
+    }
+
+    @Test
+    void testMostGeneralAssignableType() {
+        registry.register(Arg.class, Integer.class, integer);
+        registry.register(Arg.class, Number.class, longArgument);
+
+        assertSame(longArgument, registry.getArgument(Arg.class, parameter(2)).get());
+    }
+
+    @Test
+    void testAmbiguousRegistrations() {
+        registry.register(Arg.class, Integer.class, integer);
+        registry.register(Arg.class, Long.class, longArgument);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.getArgument(Arg.class, parameter(1)));
+    }
+
+    private static Parameter parameter(int index) {
+        try {
+            return Command.class.getDeclaredMethod("execute", String.class, Number.class, Object.class).getParameters()[index];
+        }
+        catch (NoSuchMethodException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package dev.rollczi.litecommands.implementation;
+
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+
+class SectionAliasIndexTest {
+
+    TestPlatform platform = TestFactory.withCommands(EconomyCommand.class, EconomyAliasesCommand.class);
+
+    @Route(name = "eco")
+    static class EconomyCommand {
+        @Execute(route = "give", aliases = { "add", "deposit" }) String give() { return "give"; }
+        @Execute(route = "take", aliases = { "remove", "withdraw" }) String take() { return "take"; }
+        @Execute(route = "balance", aliases = "bal") String balance() { return "balance"; }
+    }
+
+    @Route(name = "eco")
+    static class EconomyAliasesCommand {
+        @Execute(route = "reset", aliases = "clear") String reset() { return "reset"; }
+    }
+
+    @Test
+    void testExecuteByNameAndAliasIgnoringCase() {
+        platform.execute("eco", "give").assertResult("give");
+        platform.execute("eco", "DEPOSIT").assertResult("give");
+        platform.execute("eco", "Withdraw").assertResult("take");
+        platform.execute("eco", "bal").assertResult("balance");
+        platform.execute("eco", "clear").assertResult("reset");
+    }
+
+    @Test
+    void testSuggestByPrefix() {
+        List<String> suggestions = platform.suggestion("eco", "ba");
+        assertCollection(list("balance", "bal"), suggestions);
+
+        List<String> byAlias = platform.suggestion("eco", "de");
+        assertCollection(list("give", "add", "deposit"), byAlias);
+
+        List<String> all = platform.suggestion("eco", "");
+        assertCollection(list("give", "add", "deposit", "take", "remove", "withdraw", "balance", "bal", "reset", "clear"), all);
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.rollczi.litecommands.implementation.injector;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InjectionPlanTest {
+
+    static class Service {
+        String execute(String text, Integer number) {
+            return text + number;
+        }
+    }
+
+    @Test
+    void testPlanIsInvalidatedBySettingsChange() throws NoSuchMethodException {
+        LiteInjectorSettings<Void> settings = new LiteInjectorSettings<Void>()
+                .typeBind(String.class, () -> "text");
+
+        Method method = Service.class.getDeclaredMethod("execute", String.class, Integer.class);
+        InjectionPlan<Void> plan = InjectionPlan.compile(method, settings, false);
+
+        assertTrue(plan.isValid(settings));
+        assertEquals("text", plan.resolve(0, null, null));
+        assertEquals(InjectionPlan.UNRESOLVED, plan.resolve(1, null, null));
+
+        settings.typeBind(Integer.class, () -> 10);
+
+        assertFalse(plan.isValid(settings));
+        assertEquals(10, InjectionPlan.compile(method, settings, false).resolve(1, null, null));
+    }
+
+    @Test
+    void testInvokeWithCompiledPlan() throws NoSuchMethodException {
+        CommandInjector<Void> injector = new CommandInjector<>(new LiteInjectorSettings<Void>()
+                .typeBind(String.class, () -> "text")
+                .typeBind(Integer.class, () -> 5));
+
+        Method method = Service.class.getDeclaredMethod("execute", String.class, Integer.class);
+        Service service = new Service();
+
+        assertEquals("text5", injector.invokeMethod(method, service));
+        assertEquals("text5", injector.createInvoker(method, service).invoke(null));
+    }
+
+}
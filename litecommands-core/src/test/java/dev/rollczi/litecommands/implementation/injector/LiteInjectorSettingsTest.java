@@ -0,0 +1,39 @@
+package dev.rollczi.litecommands.implementation.injector;
+
+import dev.rollczi.litecommands.injector.bind.TypeBind;
+import org.junit.jupiter.api.Test;
+import panda.std.Option;
+import panda.std.Result;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiteInjectorSettingsTest {
+
+    @Test
+    void testResolvedBindsAreCachedAndRebuiltOnBind() {
+        LiteInjectorSettings<Void> settings = new LiteInjectorSettings<>();
+
+        assertTrue(settings.getTypeBind(Number.class).isEmpty());
+        assertSame(settings.getTypeBind(Number.class), settings.getTypeBind(Number.class));
+
+        settings.typeBind(Integer.class, () -> 10);
+
+        Option<TypeBind<?>> number = settings.getTypeBind(Number.class);
+
+        assertTrue(number.isPresent());
+        assertSame(number, settings.getTypeBind(Number.class));
+    }
+
+    @Test
+    void testContextualBindIsRebuiltOnBind() {
+        LiteInjectorSettings<Void> settings = new LiteInjectorSettings<>();
+
+        assertTrue(settings.getContextualBind(CharSequence.class).isEmpty());
+
+        settings.contextualBind(String.class, (sender, invocation) -> Result.ok("text"));
+
+        assertTrue(settings.getContextualBind(CharSequence.class).isPresent());
+    }
+
+}
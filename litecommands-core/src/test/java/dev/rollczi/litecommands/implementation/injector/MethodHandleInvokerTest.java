@@ -0,0 +1,67 @@
+package dev.rollczi.litecommands.implementation.injector;
+
+import dev.rollczi.litecommands.injector.InjectException;
+import dev.rollczi.litecommands.injector.MissingBindException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MethodHandleInvokerTest {
+
+    static final IllegalStateException FAILURE = new IllegalStateException("failure");
+
+    static class Service {
+        String execute(String text, Integer number) {
+            return text + number;
+        }
+
+        String fail(String text) {
+            throw FAILURE;
+        }
+    }
+
+    @Test
+    void testMissingBindHasSameShapeAsReflectiveInvoke() throws NoSuchMethodException {
+        CommandInjector<Void> injector = new CommandInjector<>(new LiteInjectorSettings<Void>()
+                .typeBind(String.class, () -> "text"));
+
+        Method method = Service.class.getDeclaredMethod("execute", String.class, Integer.class);
+        Service service = new Service();
+
+        InjectException handle = assertThrows(InjectException.class, () -> injector.createInvoker(method, service).invoke(null));
+        InjectException reflective = assertThrows(InjectException.class, () -> injector.invokeMethod(method, service));
+
+        assertEquals(reflective.getMessage(), handle.getMessage());
+        assertTrue(handle.getMessage().startsWith("Can not execute: "));
+        assertEquals(1, handle.getSuppressed().length);
+        assertTrue(handle.getSuppressed()[0] instanceof MissingBindException);
+        assertEquals(reflective.getSuppressed()[0].getMessage(), handle.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void testThrowingMethodHasSameShapeAsReflectiveInvoke() throws NoSuchMethodException {
+        CommandInjector<Void> injector = new CommandInjector<>(new LiteInjectorSettings<Void>()
+                .typeBind(String.class, () -> "text"));
+
+        Method method = Service.class.getDeclaredMethod("fail", String.class);
+        Service service = new Service();
+
+        InjectException handle = assertThrows(InjectException.class, () -> injector.createInvoker(method, service).invoke(null));
+        InjectException reflective = assertThrows(InjectException.class, () -> injector.invokeMethod(method, service));
+
+        assertEquals(reflective.getMessage(), handle.getMessage());
+        assertEquals(1, handle.getSuppressed().length);
+
+        Throwable invoke = handle.getSuppressed()[0];
+
+        assertEquals(reflective.getSuppressed()[0].getMessage(), invoke.getMessage());
+        assertEquals("Injected parameters: java.lang.String", invoke.getMessage());
+        assertSame(FAILURE, invoke.getCause());
+    }
+
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import dev.rollczi.litecommands.shared.EstimatedTemporalAmountParser.BasisForTimeEstimation;
 
@@ -192,6 +193,31 @@ class EstimatedTemporalAmountParserTest {
         assertEquals(expected, formatted);
     }
 
+    @Test
+    void testFormatSubSecondUnits() {
+        EstimatedTemporalAmountParser<Duration> temporalAmountParser = EstimatedTemporalAmountParser.DATE_TIME_UNITS;
+
+        assertEquals("1s500ms", temporalAmountParser.format(Duration.ofMillis(1500)));
+        assertEquals("2m3s4ms5us6ns", temporalAmountParser.format(Duration.ofSeconds(123, 4_005_006)));
+        assertEquals(Duration.ofSeconds(123, 4_005_006), temporalAmountParser.parse("2m3s4ms5us6ns"));
+    }
+
+    @Test
+    void testBasisIsResolvedOncePerParse() {
+        AtomicInteger calls = new AtomicInteger();
+        EstimatedTemporalAmountParser<Duration> temporalAmountParser = EstimatedTemporalAmountParser.DATE_TIME_UNITS
+            .withBasisForTimeEstimation(() -> {
+                calls.incrementAndGet();
+                return LocalDateTime.of(2021, Month.JANUARY, 31, 0, 0);
+            });
+
+        assertEquals(Duration.ofDays(365 + 28 + 1), temporalAmountParser.parse("1y1mo1d"));
+        assertEquals(1, calls.get());
+
+        assertEquals(Duration.ofHours(2), temporalAmountParser.parse("2h"));
+        assertEquals(1, calls.get());
+    }
+
     @Test
     void testNotSupportedChronoUnit() {
         EstimatedTemporalAmountParser<Period> temporalAmountParser = EstimatedTemporalAmountParser.createPeriod()
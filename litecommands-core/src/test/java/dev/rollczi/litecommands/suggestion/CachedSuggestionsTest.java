@@ -0,0 +1,181 @@
+package dev.rollczi.litecommands.suggestion;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.argument.basictype.time.ZoneIdArgument;
+import dev.rollczi.litecommands.argument.simple.OneArgument;
+import dev.rollczi.litecommands.argument.simple.SimpleMultilevelArgument;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.platform.LiteSender;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestHandle;
+import dev.rollczi.litecommands.test.TestPlatform;
+import dev.rollczi.litecommands.test.TestSender;
+import org.junit.jupiter.api.Test;
+import panda.std.Option;
+import panda.std.Result;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedSuggestionsTest {
+
+    static class Planet {
+    }
+
+    @CachedSuggestions(expireAfter = 1, unit = TimeUnit.HOURS)
+    static class PlanetArgument implements OneArgument<Planet> {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Result<Planet, ?> parse(LiteInvocation invocation, String argument) {
+            return Result.ok(new Planet());
+        }
+
+        @Override
+        public List<Suggestion> suggest(LiteInvocation invocation) {
+            this.calls.incrementAndGet();
+            return Suggestion.of("mercury", "venus", "earth", "mars");
+        }
+
+    }
+
+    @Route(name = "planet")
+    static class Command {
+        @Execute void execute(@Arg Planet planet) {}
+    }
+
+    PlanetArgument argument = new PlanetArgument();
+
+    TestPlatform platform = TestFactory.create(builder -> builder
+            .command(Command.class)
+            .argument(Planet.class, argument)
+    );
+
+    @Test
+    void testSuggestionsAreComputedOnce() {
+        platform.suggest("planet", "m").assertWith("mercury", "mars");
+        platform.suggest("planet", "e").assertWith("earth");
+        platform.suggest("planet", "").assertWith("mercury", "venus", "earth", "mars");
+
+        assertEquals(1, argument.calls.get());
+    }
+
+    @Test
+    void testCacheEviction() {
+        SuggestionCache cache = SuggestionCache.create(1, TimeUnit.HOURS, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (String key : new String[] { "a", "b", "a", "c", "a", "b" }) {
+            cache.get(key, () -> {
+                loads.incrementAndGet();
+                return SuggestionIndex.of(key);
+            });
+        }
+
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testExpiredEntryIsReloadedOnLookup() {
+        AtomicLong clock = new AtomicLong();
+        SuggestionCache cache = new SuggestionCache(TimeUnit.SECONDS.toNanos(1), 8, clock::get);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<SuggestionIndex> loader = () -> SuggestionIndex.of("load-" + loads.incrementAndGet());
+
+        assertEquals(list("load-1"), cache.get("key", loader).toStack().multilevelSuggestions());
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(list("load-1"), cache.get("key", loader).toStack().multilevelSuggestions());
+
+        clock.set(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(list("load-2"), cache.get("key", loader).toStack().multilevelSuggestions());
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testArgumentIndexGoesThroughCache() {
+        AtomicInteger calls = new AtomicInteger();
+        ZoneIdArgument zoneIdArgument = new ZoneIdArgument() {
+            @Override
+            public Option<SuggestionIndex> suggestionIndex(LiteInvocation invocation) {
+                calls.incrementAndGet();
+                return super.suggestionIndex(invocation);
+            }
+        };
+        SuggestionCache cache = SuggestionCache.create(1, TimeUnit.HOURS, 8);
+        CachedSuggestionArgument<TestHandle, Arg> cached = CachedSuggestionArgument.of(new SimpleMultilevelArgument<>(zoneIdArgument), cache, CachedSuggestions.Scope.GLOBAL, false);
+        LiteInvocation invocation = new LiteInvocation(new TestSender(new TestHandle()), "zone", "zone", new String[] { "Europe/" });
+
+        assertTrue(cached.suggestionIndex(invocation, null, null).isPresent());
+        assertTrue(cached.suggestionIndex(invocation, null, null).isPresent());
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testSenderScopeIsKeyedByIdentifier() {
+        SuggestionCache cache = SuggestionCache.create(1, TimeUnit.HOURS, 8);
+        CachedSuggestionArgument<TestHandle, Arg> cached = CachedSuggestionArgument.of(new SimpleMultilevelArgument<>(argument), cache, CachedSuggestions.Scope.SENDER, false);
+
+        cached.suggestion(invocation(new IdentifiedSender("first")), null, null);
+        cached.suggestion(invocation(new IdentifiedSender("first")), null, null);
+        cached.suggestion(invocation(new IdentifiedSender("second")), null, null);
+
+        assertEquals(2, argument.calls.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testSenderScopeDefaultsToHandle() {
+        SuggestionCache cache = SuggestionCache.create(1, TimeUnit.HOURS, 8);
+        CachedSuggestionArgument<TestHandle, Arg> cached = CachedSuggestionArgument.of(new SimpleMultilevelArgument<>(argument), cache, CachedSuggestions.Scope.SENDER, false);
+        TestHandle handle = new TestHandle();
+
+        cached.suggestion(invocation(new TestSender(handle)), null, null);
+        cached.suggestion(invocation(new TestSender(handle)), null, null);
+        cached.suggestion(invocation(new TestSender(new TestHandle())), null, null);
+
+        assertEquals(2, argument.calls.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    private static LiteInvocation invocation(LiteSender sender) {
+        return new LiteInvocation(sender, "planet", "planet", new String[] { "" });
+    }
+
+    static class IdentifiedSender extends TestSender {
+
+        private final String identifier;
+
+        IdentifiedSender(String identifier) {
+            super(new TestHandle());
+            this.identifier = identifier;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return this.identifier;
+        }
+
+    }
+
+}
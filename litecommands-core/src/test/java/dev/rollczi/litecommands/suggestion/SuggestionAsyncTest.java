@@ -0,0 +1,91 @@
+package dev.rollczi.litecommands.suggestion;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.argument.simple.OneArgument;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+import panda.std.Result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionAsyncTest {
+
+    static class OfflinePlayer {
+    }
+
+    static class OfflinePlayerArgument implements OneArgument<OfflinePlayer> {
+
+        CompletableFuture<List<Suggestion>> database = new CompletableFuture<>();
+
+        @Override
+        public Result<OfflinePlayer, ?> parse(LiteInvocation invocation, String argument) {
+            return Result.ok(new OfflinePlayer());
+        }
+
+        @Override
+        public CompletableFuture<List<Suggestion>> suggestAsync(LiteInvocation invocation) {
+            return this.database;
+        }
+
+    }
+
+    @Route(name = "ban")
+    static class Command {
+        @Execute void execute(@Arg OfflinePlayer player, @Arg String reason) {}
+        @Execute(route = "list") void list() {}
+    }
+
+    OfflinePlayerArgument argument = new OfflinePlayerArgument();
+
+    TestPlatform platform = TestFactory.create(builder -> builder
+            .command(Command.class)
+            .argument(OfflinePlayer.class, argument)
+            .suggestionTimeout(Duration.ofMillis(100))
+    );
+
+    @Test
+    void testCompletesWhenSuggesterCompletes() {
+        CompletableFuture<SuggestionStack> future = platform.suggestAsync("ban", "");
+
+        assertTrue(!future.isDone());
+
+        new Thread(() -> argument.database.complete(Suggestion.of("Rollczi", "Notch"))).start();
+
+        assertCollection(list("Rollczi", "Notch", "list"), future.join().multilevelSuggestions());
+    }
+
+    @Test
+    void testFollowingArgumentIsSuggestedAsynchronously() {
+        argument.database.complete(Suggestion.of("Rollczi", "Notch"));
+
+        assertCollection(list("text"), platform.suggestAsync("ban", "Rollczi", "").join().multilevelSuggestions());
+    }
+
+    @Test
+    void testDeadline() {
+        SuggestionStack stack = platform.suggestAsync("ban", "").join();
+
+        assertTrue(stack.isEmpty());
+        assertThrows(CancellationException.class, () -> argument.database.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSynchronousSuggestionsDoNotWaitForAsyncSuggester() {
+        platform.suggest("ban", "").assertWith("list");
+        assertTrue(!argument.database.isDone());
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.rollczi.litecommands.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.TestUtils.invocation;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionCollectorTest {
+
+    @Test
+    void testKeepsInsertionOrderWithoutDuplicates() {
+        SuggestionCollector collector = SuggestionCollector.create()
+                .addAll(Suggestion.of("give", "take"))
+                .addAll(Suggestion.of("take", "balance"));
+
+        assertEquals(list("give", "take", "balance"), collector.build().multilevelSuggestions());
+    }
+
+    @Test
+    void testAddAllRespectsLimit() {
+        SuggestionCollector collector = SuggestionCollector.create();
+        collector.add(Suggestion.of("give"));
+
+        int added = collector.addAll(Suggestion.of("give", "take", "balance", "reset"), 3);
+
+        assertEquals(2, added);
+        assertEquals(list("give", "take", "balance"), collector.build().multilevelSuggestions());
+    }
+
+    @Test
+    void testBuiltStackIsNotChangedByLaterAppends() {
+        SuggestionCollector collector = SuggestionCollector.create();
+        collector.add(Suggestion.of("give"));
+
+        SuggestionStack built = collector.build();
+        collector.add(Suggestion.of("take"));
+
+        assertEquals(list("give"), built.multilevelSuggestions());
+        assertEquals(list("give", "take"), collector.build().multilevelSuggestions());
+    }
+
+    @Test
+    void testMergerCollectsLargeStackInOrder() {
+        SuggestionMerger merger = SuggestionMerger.empty(invocation("material", ""));
+        List<String> expected = new ArrayList<>();
+
+        for (int index = 0; index < 1500; index++) {
+            merger.append(1, Suggestion.of("material_" + index));
+            merger.append(1, Suggestion.of("material_" + (index / 2)));
+            expected.add("material_" + index);
+        }
+
+        assertEquals(expected, merger.merge().multilevelSuggestions());
+    }
+
+    @Test
+    void testMergerStopsAtLimit() {
+        SuggestionMerger merger = SuggestionMerger.empty(invocation("material", ""), 3);
+
+        merger.appendRoot(SuggestionStack.of(Suggestion.of("stone", "dirt")));
+        merger.appendRoot(SuggestionStack.of(Suggestion.of("dirt", "grass", "sand")));
+
+        assertTrue(merger.isFull());
+        assertEquals(list("stone", "dirt", "grass"), merger.merge().multilevelSuggestions());
+    }
+
+    @Test
+    void testStackOfCopiesSource() {
+        List<Suggestion> source = new ArrayList<>(list(Suggestion.of("give")));
+        SuggestionStack stack = SuggestionStack.of(source);
+
+        source.add(Suggestion.of("take"));
+
+        assertEquals(list("give"), stack.multilevelSuggestions());
+    }
+
+}
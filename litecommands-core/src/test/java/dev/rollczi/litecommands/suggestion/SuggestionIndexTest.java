@@ -0,0 +1,83 @@
+package dev.rollczi.litecommands.suggestion;
+
+import dev.rollczi.litecommands.argument.basictype.time.ZoneIdArgument;
+import dev.rollczi.litecommands.argument.simple.SimpleMultilevelArgument;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionIndexTest {
+
+    SuggestionIndex index = SuggestionIndex.of("Europe/Warsaw", "Europe/Berlin", "America/New_York", "europe/warsaw", "Asia/Tokyo", "Europe/Warsaw");
+
+    @Test
+    void testStartsWithIgnoringCase() {
+        assertCollection(list("Europe/Warsaw", "europe/warsaw", "Europe/Berlin"), multilevel(index.startsWith("EUROPE/")));
+        assertCollection(list("Europe/Warsaw", "europe/warsaw"), multilevel(index.startsWith("europe/w")));
+        assertTrue(index.startsWith("Africa").isEmpty());
+        assertEquals(5, index.startsWith("").size());
+    }
+
+    @Test
+    void testEqualsIgnoreCase() {
+        assertCollection(list("Europe/Warsaw", "europe/warsaw"), multilevel(index.equalsIgnoreCase("EUROPE/WARSAW")));
+        assertTrue(index.equalsIgnoreCase("Europe/").isEmpty());
+    }
+
+    @Test
+    void testMultilevel() {
+        SuggestionIndex multilevel = SuggestionIndex.of(list(Suggestion.multilevel("10", "20"), Suggestion.multilevel("10", "30"), Suggestion.multilevel("11", "20")));
+
+        assertEquals(2, multilevel.lengthMultilevel());
+        assertCollection(list("10 20", "10 30"), multilevel.filter("10 ", true).multilevelSuggestions());
+        assertThrows(IllegalArgumentException.class, () -> SuggestionIndex.of(list(Suggestion.of("one"), Suggestion.multilevel("two", "levels"))));
+    }
+
+    @Test
+    void testMatchesKeepInsertionOrder() {
+        SuggestionIndex ordered = SuggestionIndex.of("zulu", "Alpha", "zeta", "alpha", "Zebra");
+
+        assertEquals(list("zulu", "zeta", "Zebra"), multilevel(ordered.startsWith("z")));
+        assertEquals(list("zulu", "zeta"), multilevel(ordered.startsWith("z", 2)));
+        assertEquals(list("Alpha", "alpha"), multilevel(ordered.equalsIgnoreCase("ALPHA")));
+        assertEquals(list("zulu", "Alpha", "zeta", "alpha", "Zebra"), ordered.toStack().multilevelSuggestions());
+    }
+
+    @Test
+    void testOverriddenSuggestWinsOverInheritedIndex() {
+        SimpleMultilevelArgument<Object, ZoneId> indexed = new SimpleMultilevelArgument<>(new ZoneIdArgument());
+        SimpleMultilevelArgument<Object, ZoneId> overridden = new SimpleMultilevelArgument<>(new ZoneIdArgument() {
+            @Override
+            public List<Suggestion> suggest(LiteInvocation invocation) {
+                return list(Suggestion.of("Europe/Warsaw"));
+            }
+        });
+
+        assertTrue(indexed.suggestionIndex(null, null, null).isPresent());
+        assertTrue(overridden.suggestionIndex(null, null, null).isEmpty());
+    }
+
+    @Test
+    void testOverloadWithSameNameKeepsIndex() {
+        SimpleMultilevelArgument<Object, ZoneId> overloaded = new SimpleMultilevelArgument<>(new ZoneIdArgument() {
+            public List<Suggestion> suggest(String prefix) {
+                return list(Suggestion.of(prefix));
+            }
+        });
+
+        assertTrue(overloaded.suggestionIndex(null, null, null).isPresent());
+    }
+
+    private static List<String> multilevel(List<Suggestion> suggestions) {
+        return UniformSuggestionStack.of(suggestions).multilevelSuggestions();
+    }
+
+}
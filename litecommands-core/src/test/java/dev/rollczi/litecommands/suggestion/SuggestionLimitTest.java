@@ -0,0 +1,108 @@
+package dev.rollczi.litecommands.suggestion;
+
+import dev.rollczi.litecommands.argument.Arg;
+import dev.rollczi.litecommands.argument.simple.OneArgument;
+import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.execute.Execute;
+import dev.rollczi.litecommands.command.route.Route;
+import dev.rollczi.litecommands.test.TestFactory;
+import dev.rollczi.litecommands.test.TestPlatform;
+import org.junit.jupiter.api.Test;
+import panda.std.Result;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static dev.rollczi.litecommands.test.Assert.assertCollection;
+import static dev.rollczi.litecommands.test.TestUtils.list;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionLimitTest {
+
+    static class Player {
+    }
+
+    static class PlayerArgument implements OneArgument<Player> {
+
+        @Override
+        public Result<Player, ?> parse(LiteInvocation invocation, String argument) {
+            return Result.ok(new Player());
+        }
+
+        @Override
+        public List<Suggestion> suggest(LiteInvocation invocation) {
+            return Suggestion.of("Alex", "Anna", "Adam", "Bob", "Bella", "Carl");
+        }
+
+    }
+
+    @Route(name = "team")
+    static class Command {
+        @Execute(route = "add") void add(@Arg Player player) {}
+        @Execute(route = "kick") void kick(@Arg @SuggestionLimit(2) Player player) {}
+        @Execute(route = "alpha") void alpha() {}
+        @Execute(route = "beta") void beta() {}
+        @Execute(route = "gamma") void gamma() {}
+    }
+
+    TestPlatform platform = TestFactory.create(builder -> builder
+            .command(Command.class)
+            .argument(Player.class, new PlayerArgument())
+    );
+
+    @Test
+    void testArgumentLimit() {
+        assertCollection(list("Alex", "Anna", "Adam", "Bob", "Bella", "Carl"), platform.suggestion("team", "add", ""));
+        assertEquals(2, platform.suggestion("team", "kick", "").size());
+        assertCollection(list("Bob", "Bella"), platform.suggestion("team", "kick", "B"));
+    }
+
+    @Test
+    void testGlobalLimitStopsAfterFirstSuggestions() {
+        TestPlatform limited = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .argument(Player.class, new PlayerArgument())
+                .suggestionLimit(3)
+        );
+
+        assertEquals(3, limited.suggestAsync("team", "").join().multilevelSuggestions().size());
+        assertEquals(3, limited.suggestAsync("team", "add", "").join().multilevelSuggestions().size());
+        assertCollection(list("Bob", "Bella"), limited.suggestAsync("team", "add", "B").join().multilevelSuggestions());
+    }
+
+    @Test
+    void testGlobalLimitWithComparatorKeepsTopSuggestions() {
+        TestPlatform sorted = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .argument(Player.class, new PlayerArgument())
+                .suggestionLimit(2)
+                .suggestionComparator(Comparator.comparing(Suggestion::multilevel))
+        );
+
+        assertEquals(list("Adam", "Alex"), sorted.suggestAsync("team", "add", "").join().multilevelSuggestions());
+        assertEquals(list("add", "alpha"), sorted.suggestAsync("team", "").join().multilevelSuggestions());
+    }
+
+    @Test
+    void testComparatorSearchIsBounded() {
+        TestPlatform sorted = TestFactory.create(builder -> builder
+                .command(Command.class)
+                .argument(Player.class, new OneArgument<Player>() {
+                    @Override
+                    public Result<Player, ?> parse(LiteInvocation invocation, String argument) {
+                        return Result.ok(new Player());
+                    }
+
+                    @Override
+                    public List<Suggestion> suggest(LiteInvocation invocation) {
+                        return Suggestion.of("p01", "p02", "p03", "p04", "p05", "p06", "p07", "p08", "p09", "p10", "p11", "p12");
+                    }
+                })
+                .suggestionLimit(1)
+                .suggestionComparator(Comparator.comparing(Suggestion::multilevel, Comparator.reverseOrder()))
+        );
+
+        assertEquals(list("p08"), sorted.suggestAsync("team", "add", "").join().multilevelSuggestions());
+    }
+
+}
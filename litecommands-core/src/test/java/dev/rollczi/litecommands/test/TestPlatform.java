@@ -9,11 +9,13 @@ import dev.rollczi.litecommands.platform.ExecuteListener;
 import dev.rollczi.litecommands.platform.LiteSender;
 import dev.rollczi.litecommands.platform.RegistryPlatform;
 import dev.rollczi.litecommands.platform.SuggestionListener;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 
 public class TestPlatform implements RegistryPlatform<TestHandle> {
 
@@ -69,6 +71,19 @@ public class TestPlatform implements RegistryPlatform<TestHandle> {
         throw new IllegalArgumentException();
     }
 
+    public CompletableFuture<SuggestionStack> suggestAsync(String command, String... args) {
+        TestHandle handle = new TestHandle();
+        LiteInvocation invocation = new LiteInvocation(new TestSender(handle), command, command, args);
+
+        for (Map.Entry<CommandSection<TestHandle>, Command> entry : commands.entrySet()) {
+            if (entry.getKey().isSimilar(command)) {
+                return entry.getValue().getSuggester().suggestAsync(handle, invocation);
+            }
+        }
+
+        throw new IllegalArgumentException();
+    }
+
     public FindResult<TestHandle> find(String command, String... args) {
         TestHandle handle = new TestHandle();
         for (Map.Entry<CommandSection<TestHandle>, Command> entry : commands.entrySet()) {
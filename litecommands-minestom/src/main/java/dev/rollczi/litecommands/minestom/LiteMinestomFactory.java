@@ -24,7 +24,10 @@ public final class LiteMinestomFactory {
             .resultHandler(String.class, new StringHandler())
 
             .platform(registryPlatform)
-            .afterRegister((builder, platform, injector, executeResultHandler, commandService) -> registryPlatform.setExecuteResultHandler(executeResultHandler));
+            .afterRegister((builder, platform, injector, executeResultHandler, commandService) -> {
+                registryPlatform.setExecuteResultHandler(executeResultHandler);
+                registryPlatform.setPermissionCache(commandService.getPermissionCache());
+            });
     }
 
 }
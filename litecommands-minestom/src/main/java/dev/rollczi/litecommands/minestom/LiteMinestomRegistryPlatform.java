@@ -1,6 +1,7 @@
 package dev.rollczi.litecommands.minestom;
 
 import dev.rollczi.litecommands.command.LiteInvocation;
+import dev.rollczi.litecommands.command.permission.PermissionCache;
 import dev.rollczi.litecommands.command.section.CommandSection;
 import dev.rollczi.litecommands.handle.ExecuteResultHandler;
 import dev.rollczi.litecommands.platform.ExecuteListener;
@@ -21,6 +22,7 @@ class LiteMinestomRegistryPlatform implements RegistryPlatform<CommandSender> {
 
     private final CommandManager commandManager;
     private ExecuteResultHandler<CommandSender> executeResultHandler = new ExecuteResultHandler<>();
+    private PermissionCache permissionCache = PermissionCache.perInvocation();
     private final boolean nativePermissions;
 
     LiteMinestomRegistryPlatform(Server ignoredServer, boolean nativePermissions) {
@@ -53,7 +55,7 @@ class LiteMinestomRegistryPlatform implements RegistryPlatform<CommandSender> {
             }
         };
 
-        return new SimpleBlockedCommand(command, executeListener, suggestionListener, noPermissionHandler);
+        return new SimpleBlockedCommand(command, executeListener, suggestionListener, noPermissionHandler, sender -> this.permissionCache.wrap(new MinestomSender(sender)));
     }
 
     @Override
@@ -82,4 +84,8 @@ class LiteMinestomRegistryPlatform implements RegistryPlatform<CommandSender> {
     void setExecuteResultHandler(ExecuteResultHandler<CommandSender> executeResultHandler) {
         this.executeResultHandler = executeResultHandler;
     }
+
+    void setPermissionCache(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+    }
 }
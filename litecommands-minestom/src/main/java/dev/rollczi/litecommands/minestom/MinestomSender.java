@@ -2,6 +2,7 @@ package dev.rollczi.litecommands.minestom;
 
 import dev.rollczi.litecommands.platform.LiteSender;
 import net.minestom.server.command.CommandSender;
+import net.minestom.server.entity.Player;
 
 class MinestomSender implements LiteSender {
 
@@ -26,4 +27,13 @@ class MinestomSender implements LiteSender {
         return this.handle;
     }
 
+    @Override
+    public Object getIdentifier() {
+        if (this.handle instanceof Player) {
+            return ((Player) this.handle).getUuid();
+        }
+
+        return this.handle.getClass().getName();
+    }
+
 }
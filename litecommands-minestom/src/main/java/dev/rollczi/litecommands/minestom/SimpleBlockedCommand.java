@@ -4,20 +4,24 @@ import dev.rollczi.litecommands.command.permission.RequiredPermissions;
 import dev.rollczi.litecommands.command.section.CommandSection;
 import dev.rollczi.litecommands.meta.CommandMeta;
 import dev.rollczi.litecommands.platform.ExecuteListener;
+import dev.rollczi.litecommands.platform.LiteSender;
 import dev.rollczi.litecommands.platform.SuggestionListener;
 import net.minestom.server.command.CommandSender;
 
 import java.util.Collection;
+import java.util.function.Function;
 
 class SimpleBlockedCommand extends SimpleCommand {
 
     private final CommandSection<CommandSender> commandSection;
     private final MinestomNoPermission noPermissionHandler;
+    private final Function<CommandSender, LiteSender> senderFactory;
 
-    SimpleBlockedCommand(CommandSection<CommandSender> commandSection, ExecuteListener<CommandSender> executeListener, SuggestionListener<CommandSender> suggestionListener, MinestomNoPermission noPermissionHandler) {
+    SimpleBlockedCommand(CommandSection<CommandSender> commandSection, ExecuteListener<CommandSender> executeListener, SuggestionListener<CommandSender> suggestionListener, MinestomNoPermission noPermissionHandler, Function<CommandSender, LiteSender> senderFactory) {
         super(commandSection, executeListener, suggestionListener);
         this.commandSection = commandSection;
         this.noPermissionHandler = noPermissionHandler;
+        this.senderFactory = senderFactory;
         this.initializePermissions();
     }
 
@@ -27,7 +31,7 @@ class SimpleBlockedCommand extends SimpleCommand {
 
         if (!permissions.isEmpty()) {
             setCondition((sender, commandString) -> {
-                RequiredPermissions requiredPermissions = RequiredPermissions.of(this.commandSection.meta(), new MinestomSender(sender));
+                RequiredPermissions requiredPermissions = RequiredPermissions.of(this.commandSection.meta(), this.senderFactory.apply(sender));
 
                 if (requiredPermissions.isEmpty()) {
                     return true;
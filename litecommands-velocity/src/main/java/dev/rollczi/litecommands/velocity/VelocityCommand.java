@@ -8,10 +8,12 @@ import dev.rollczi.litecommands.command.section.CommandSection;
 import dev.rollczi.litecommands.platform.ExecuteListener;
 import dev.rollczi.litecommands.platform.SuggestionListener;
 import dev.rollczi.litecommands.shared.StringUtils;
+import dev.rollczi.litecommands.suggestion.SuggestionStack;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 class VelocityCommand implements SimpleCommand {
 
@@ -37,6 +39,12 @@ class VelocityCommand implements SimpleCommand {
         return this.suggestionListener.suggest(invocation.source(), this.convert(invocation, true)).multilevelSuggestions();
     }
 
+    @Override
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        return this.suggestionListener.suggestAsync(invocation.source(), this.convert(invocation, true))
+                .thenApply(SuggestionStack::multilevelSuggestions);
+    }
+
     @Override
     public boolean hasPermission(Invocation invocation) {
 
@@ -1,6 +1,7 @@
 package dev.rollczi.litecommands.velocity;
 
 import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.proxy.Player;
 import dev.rollczi.litecommands.platform.LiteSender;
 
 class VelocitySender implements LiteSender {
@@ -26,4 +27,13 @@ class VelocitySender implements LiteSender {
         return this.handle;
     }
 
+    @Override
+    public Object getIdentifier() {
+        if (this.handle instanceof Player) {
+            return ((Player) this.handle).getUniqueId();
+        }
+
+        return this.handle.getClass().getName();
+    }
+
 }
@@ -6,6 +6,7 @@ include(":litecommands-bukkit")
 include(":litecommands-bukkit-adventure")
 include(":litecommands-bungee")
 includeModule(":litecommands-minestom", JavaVersion.VERSION_17)
+include(":litecommands-benchmarks")
 include(":examples:bukkit")
 
 fun includeModule(projectPath : String, version : JavaVersion) {